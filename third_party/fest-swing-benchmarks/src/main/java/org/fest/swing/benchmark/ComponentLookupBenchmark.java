@@ -0,0 +1,103 @@
+/*
+ * Created on Oct 18, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.benchmark;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static org.fest.swing.edt.GuiActionRunner.execute;
+
+import java.awt.Component;
+import java.awt.GridLayout;
+import java.util.Collection;
+
+import javax.swing.JPanel;
+import javax.swing.JTextField;
+
+import org.fest.swing.core.TypeMatcher;
+import org.fest.swing.edt.GuiQuery;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks component lookup in a large synthetic hierarchy, with and without the component index (see
+ * {@code Settings.indexComponentLookups()}).
+ *
+ * @author Alex Ruiz
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ComponentLookupBenchmark extends SwingBenchmark {
+  private static final int COMPONENTS_PER_PANEL = 100;
+
+  @Param({ "1000", "10000" })
+  int componentCount;
+
+  @Param({ "false", "true" })
+  boolean indexed;
+
+  private String lastName;
+
+  @Override
+  void onSetUp() {
+    robot.settings().indexComponentLookups(indexed);
+    lastName = nameOf(componentCount - 1);
+    showInFrame(execute(new GuiQuery<JPanel>() {
+      @Override
+      protected JPanel executeInEDT() {
+        return createHierarchy();
+      }
+    }));
+  }
+
+  private JPanel createHierarchy() {
+    int panelCount = (componentCount + COMPONENTS_PER_PANEL - 1) / COMPONENTS_PER_PANEL;
+    JPanel root = new JPanel(new GridLayout(panelCount, 1));
+    for (int i = 0; i < panelCount; i++) {
+      JPanel panel = new JPanel(new GridLayout(0, 10));
+      for (int j = i * COMPONENTS_PER_PANEL; j < Math.min(componentCount, (i + 1) * COMPONENTS_PER_PANEL); j++) {
+        JTextField textField = new JTextField(5);
+        textField.setName(nameOf(j));
+        panel.add(textField);
+      }
+      root.add(panel);
+    }
+    return root;
+  }
+
+  private static String nameOf(int index) {
+    return "textField" + index;
+  }
+
+  @Benchmark
+  public JTextField findByName() {
+    return robot.finder().findByName(lastName, JTextField.class);
+  }
+
+  @Benchmark
+  public Collection<Component> findAllByType() {
+    return robot.finder().findAll(new TypeMatcher(JTextField.class));
+  }
+}
@@ -0,0 +1,84 @@
+/*
+ * Created on Oct 18, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.benchmark;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.fest.swing.edt.GuiActionRunner.execute;
+
+import javax.swing.JTextField;
+
+import org.fest.swing.edt.GuiQuery;
+import org.fest.swing.edt.GuiTask;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks entering text in a {@code JTextField}, typing one key at a time or posting all the characters at once (see
+ * {@code Settings.bulkTextEntry()}).
+ *
+ * @author Alex Ruiz
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class EnterTextBenchmark extends SwingBenchmark {
+  private static final String TEXT = "The quick brown fox jumps over the lazy dog";
+
+  @Param({ "false", "true" })
+  boolean bulk;
+
+  private JTextField textField;
+
+  @Override
+  void onSetUp() {
+    robot.settings().bulkTextEntry(bulk);
+    textField = execute(new GuiQuery<JTextField>() {
+      @Override
+      protected JTextField executeInEDT() {
+        return new JTextField(50);
+      }
+    });
+    showInFrame(textField);
+    robot.focusAndWaitForFocusGain(textField);
+  }
+
+  @Setup(Level.Invocation)
+  public void clearText() {
+    execute(new GuiTask() {
+      @Override
+      protected void executeInEDT() {
+        textField.setText("");
+      }
+    });
+  }
+
+  @Benchmark
+  public void enterText() {
+    robot.enterText(TEXT);
+  }
+}
@@ -0,0 +1,74 @@
+/*
+ * Created on Oct 18, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.benchmark;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static org.fest.swing.edt.GuiActionRunner.execute;
+
+import javax.swing.DefaultListModel;
+import javax.swing.JList;
+
+import org.fest.swing.driver.JListDriver;
+import org.fest.swing.edt.GuiQuery;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks reading the contents of a {@code JList} with {@link JListDriver}.
+ *
+ * @author Alex Ruiz
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class JListDriverBenchmark extends SwingBenchmark {
+  @Param({ "1000", "10000" })
+  int elementCount;
+
+  private JListDriver driver;
+  private JList<String> list;
+
+  @Override
+  void onSetUp() {
+    driver = new JListDriver(robot);
+    list = execute(new GuiQuery<JList<String>>() {
+      @Override
+      protected JList<String> executeInEDT() {
+        DefaultListModel<String> model = new DefaultListModel<String>();
+        for (int i = 0; i < elementCount; i++) {
+          model.addElement("element" + i);
+        }
+        return new JList<String>(model);
+      }
+    });
+    showInFrame(list);
+  }
+
+  @Benchmark
+  public String[] contentsOf() {
+    return driver.contentsOf(list);
+  }
+}
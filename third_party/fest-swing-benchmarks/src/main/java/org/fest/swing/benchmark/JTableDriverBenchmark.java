@@ -0,0 +1,108 @@
+/*
+ * Created on Oct 18, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.benchmark;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static org.fest.swing.edt.GuiActionRunner.execute;
+
+import java.util.Iterator;
+
+import javax.swing.JTable;
+import javax.swing.table.DefaultTableModel;
+
+import org.fest.swing.driver.BasicJTableCellReader;
+import org.fest.swing.driver.CachingJTableCellReader;
+import org.fest.swing.driver.JTableDriver;
+import org.fest.swing.edt.GuiQuery;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks reading the contents of a {@code JTable} with {@link JTableDriver}, with and without caching the values of
+ * its cells.
+ *
+ * @author Alex Ruiz
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class JTableDriverBenchmark extends SwingBenchmark {
+  private static final int COLUMN_COUNT = 10;
+
+  @Param({ "100", "1000" })
+  int rowCount;
+
+  @Param({ "false", "true" })
+  boolean cachingCellReader;
+
+  private JTableDriver driver;
+  private JTable table;
+
+  @Override
+  void onSetUp() {
+    driver = new JTableDriver(robot);
+    if (cachingCellReader) {
+      driver.replaceCellReader(new CachingJTableCellReader(new BasicJTableCellReader()));
+    }
+    table = execute(new GuiQuery<JTable>() {
+      @Override
+      protected JTable executeInEDT() {
+        return createTable();
+      }
+    });
+    showInFrame(table);
+  }
+
+  private JTable createTable() {
+    DefaultTableModel model = new DefaultTableModel(rowCount, COLUMN_COUNT);
+    for (int row = 0; row < rowCount; row++) {
+      for (int column = 0; column < COLUMN_COUNT; column++) {
+        model.setValueAt(row + "-" + column, row, column);
+      }
+    }
+    return new JTable(model);
+  }
+
+  @Benchmark
+  public String[][] contents() {
+    return driver.contents(table);
+  }
+
+  @Benchmark
+  public int contentsInPages() {
+    int rows = 0;
+    Iterator<String[][]> pages = driver.contentsInPages(table);
+    while (pages.hasNext()) {
+      rows += pages.next().length;
+    }
+    return rows;
+  }
+
+  @Benchmark
+  public String value() {
+    return driver.value(table, rowCount - 1, COLUMN_COUNT - 1);
+  }
+}
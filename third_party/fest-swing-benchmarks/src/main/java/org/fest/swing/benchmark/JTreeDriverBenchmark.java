@@ -0,0 +1,101 @@
+/*
+ * Created on Oct 18, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.benchmark;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static org.fest.swing.edt.GuiActionRunner.execute;
+
+import javax.swing.JTree;
+import javax.swing.tree.DefaultMutableTreeNode;
+
+import org.fest.swing.driver.JTreeDriver;
+import org.fest.swing.edt.GuiQuery;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks reading the values of the nodes of a wide {@code JTree} with {@link JTreeDriver}.
+ *
+ * @author Alex Ruiz
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class JTreeDriverBenchmark extends SwingBenchmark {
+  @Param({ "10", "100" })
+  int childCount;
+
+  private JTreeDriver driver;
+  private JTree tree;
+  private String lastPath;
+  private String[] paths;
+
+  @Override
+  void onSetUp() {
+    driver = new JTreeDriver(robot);
+    tree = execute(new GuiQuery<JTree>() {
+      @Override
+      protected JTree executeInEDT() {
+        return createTree();
+      }
+    });
+    paths = new String[childCount];
+    for (int i = 0; i < childCount; i++) {
+      paths[i] = pathOf(i, childCount - 1);
+    }
+    lastPath = paths[childCount - 1];
+    showInFrame(tree);
+  }
+
+  // a tree with childCount branches, each one with childCount leaves
+  private JTree createTree() {
+    DefaultMutableTreeNode root = new DefaultMutableTreeNode("root");
+    for (int i = 0; i < childCount; i++) {
+      DefaultMutableTreeNode branch = new DefaultMutableTreeNode("branch" + i);
+      for (int j = 0; j < childCount; j++) {
+        branch.add(new DefaultMutableTreeNode("leaf" + i + "-" + j));
+      }
+      root.add(branch);
+    }
+    JTree newTree = new JTree(root);
+    newTree.setRootVisible(false);
+    return newTree;
+  }
+
+  private static String pathOf(int branch, int leaf) {
+    return "branch" + branch + "/leaf" + branch + "-" + leaf;
+  }
+
+  @Benchmark
+  public String nodeValue() {
+    return driver.nodeValue(tree, lastPath);
+  }
+
+  @Benchmark
+  public String[] nodeValues() {
+    return driver.nodeValues(tree, paths);
+  }
+}
@@ -0,0 +1,76 @@
+/*
+ * Created on Oct 18, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.benchmark;
+
+import static org.fest.swing.core.BasicRobot.robotWithNewAwtHierarchy;
+import static org.fest.swing.edt.GuiActionRunner.execute;
+
+import java.awt.Component;
+import java.awt.Dimension;
+
+import javax.annotation.Nonnull;
+import javax.swing.JFrame;
+import javax.swing.JScrollPane;
+
+import org.fest.swing.annotation.RunsInEDT;
+import org.fest.swing.core.Robot;
+import org.fest.swing.edt.GuiQuery;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Base class for benchmarks that need a {@link Robot} and a window showing the components to benchmark. Each trial
+ * creates its own {@code Robot}, and cleans it up when the trial ends.
+ *
+ * @author Alex Ruiz
+ */
+public abstract class SwingBenchmark {
+  Robot robot;
+
+  @Setup(Level.Trial)
+  public final void setUpRobot() {
+    robot = robotWithNewAwtHierarchy();
+    onSetUp();
+  }
+
+  /**
+   * Creates and shows the components to benchmark. Called once per trial, after the {@code Robot} is created.
+   */
+  abstract void onSetUp();
+
+  @TearDown(Level.Trial)
+  public final void cleanUpRobot() {
+    robot.cleanUp();
+  }
+
+  /**
+   * Shows the given component in a new frame, inside a scroll pane.
+   *
+   * @param content the component to show.
+   */
+  @RunsInEDT
+  final void showInFrame(final @Nonnull Component content) {
+    JFrame frame = execute(new GuiQuery<JFrame>() {
+      @Override
+      protected JFrame executeInEDT() {
+        JFrame f = new JFrame(SwingBenchmark.this.getClass().getSimpleName());
+        f.add(new JScrollPane(content));
+        return f;
+      }
+    });
+    robot.showWindow(frame, new Dimension(400, 300));
+  }
+}
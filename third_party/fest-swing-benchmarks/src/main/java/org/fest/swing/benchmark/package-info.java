@@ -0,0 +1,33 @@
+/*
+ * Created on Oct 18, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+/**
+ * <p>
+ * <a href="http://openjdk.java.net/projects/code-tools/jmh/" target="_blank">JMH</a> benchmarks for the hot paths of
+ * FEST-Swing: component lookup, reading the contents of {@code JTable}s, {@code JTree}s and {@code JList}s, text entry
+ * and waiting for idle AWT event queues.
+ * </p>
+ *
+ * <p>
+ * The benchmarks need a display. On a build server, run them in a virtual frame buffer, for example:
+ *
+ * <pre>
+ * mvn package
+ * xvfb-run -a -s "-screen 0 1280x1024x24" java -jar target/benchmarks.jar
+ * </pre>
+ * </p>
+ *
+ * @author Alex Ruiz
+ */
+package org.fest.swing.benchmark;
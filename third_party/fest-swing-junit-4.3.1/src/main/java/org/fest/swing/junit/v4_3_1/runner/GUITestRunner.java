@@ -62,12 +62,17 @@ public class GUITestRunner extends Runner {
   }
 
   /**
-   * Run the tests for this runner, taking screenshots of failing tests.
+   * Run the tests for this runner, taking screenshots of failing tests. Waits until the screenshots have been saved
+   * before returning.
    * @param notifier will be notified of events while tests are being run, started, finishing, and failing.
    */
   @Override
   public void run(RunNotifier notifier) {
-    new InnerRunner(this, notifier).runProtected();
+    try {
+      new InnerRunner(this, notifier).runProtected();
+    } finally {
+      screenshotTaker.flushPendingScreenshots();
+    }
   }
 
   // called by InnerRunner
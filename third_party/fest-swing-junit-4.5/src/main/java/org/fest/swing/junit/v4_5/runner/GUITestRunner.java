@@ -16,6 +16,7 @@ package org.fest.swing.junit.v4_5.runner;
 
 import org.fest.swing.junit.runner.FailureScreenshotTaker;
 import org.fest.swing.junit.runner.ImageFolderCreator;
+import org.junit.runner.notification.RunNotifier;
 import org.junit.runners.BlockJUnit4ClassRunner;
 import org.junit.runners.model.*;
 
@@ -39,6 +40,18 @@ public class GUITestRunner extends BlockJUnit4ClassRunner {
     screenshotTaker = new FailureScreenshotTaker(new ImageFolderCreator().createImageFolder());
   }
 
+  /**
+   * Runs the tests in this runner's test class, waiting until the screenshots of failed tests have been saved.
+   * @param notifier will be notified of events while tests are being run, started, finishing, and failing.
+   */
+  @Override public void run(RunNotifier notifier) {
+    try {
+      super.run(notifier);
+    } finally {
+      screenshotTaker.flushPendingScreenshots();
+    }
+  }
+
   /**
    * Returns a <code>{@link Statement}</code> that invokes {@code method} on {@code test}. The created statement will
    * take and save the screenshot of the desktop in case of a failure.
@@ -15,6 +15,9 @@
  */
 package org.fest.swing.junit.ant;
 
+import static java.lang.Math.min;
+import static java.lang.System.arraycopy;
+import static java.util.Arrays.copyOf;
 import static org.fest.swing.image.ImageFileExtensions.PNG;
 import static org.fest.swing.junit.ant.CommonConstants.UTF_8;
 import static org.fest.util.Files.flushAndClose;
@@ -22,8 +25,11 @@ import static org.fest.util.Files.flushAndClose;
 import java.awt.image.BufferedImage;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 
 import javax.imageio.ImageIO;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
 
 import org.apache.commons.codec.binary.Base64;
 
@@ -44,4 +50,68 @@ class ImageEncoder {
       flushAndClose(out);
     }
   }
+
+  /**
+   * Encodes the given image as PNG and writes the base64 characters to the given XML stream as they are produced,
+   * without keeping the whole encoded image in memory.
+   * @param image the image to encode.
+   * @param xmlWriter the XML stream to write the base64 characters to.
+   * @throws IOException if the image cannot be encoded or written.
+   */
+  void encodeBase64(BufferedImage image, XMLStreamWriter xmlWriter) throws IOException {
+    Base64CharactersOutputStream out = new Base64CharactersOutputStream(xmlWriter);
+    ImageIO.write(image, PNG, out);
+    out.close();
+  }
+
+  private static class Base64CharactersOutputStream extends OutputStream {
+    // base64 encodes each group of 3 bytes as 4 characters; encoding whole groups needs no padding until the end
+    private static final int BUFFER_SIZE = 3 * 1024;
+
+    private final XMLStreamWriter xmlWriter;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private final char[] characters = new char[BUFFER_SIZE / 3 * 4];
+    private int count;
+    private boolean closed;
+
+    Base64CharactersOutputStream(XMLStreamWriter xmlWriter) {
+      this.xmlWriter = xmlWriter;
+    }
+
+    @Override public void write(int b) throws IOException {
+      if (count == BUFFER_SIZE) encodeBuffer();
+      buffer[count++] = (byte)b;
+    }
+
+    @Override public void write(byte[] b, int off, int len) throws IOException {
+      int offset = off;
+      int remaining = len;
+      while (remaining > 0) {
+        if (count == BUFFER_SIZE) encodeBuffer();
+        int copied = min(remaining, BUFFER_SIZE - count);
+        arraycopy(b, offset, buffer, count, copied);
+        count += copied;
+        offset += copied;
+        remaining -= copied;
+      }
+    }
+
+    @Override public void close() throws IOException {
+      if (closed) return;
+      closed = true;
+      encodeBuffer();
+    }
+
+    private void encodeBuffer() throws IOException {
+      if (count == 0) return;
+      byte[] encoded = Base64.encodeBase64(count == BUFFER_SIZE ? buffer : copyOf(buffer, count));
+      for (int i = 0; i < encoded.length; i++) characters[i] = (char)encoded[i];
+      count = 0;
+      try {
+        xmlWriter.writeCharacters(characters, 0, encoded.length);
+      } catch (XMLStreamException e) {
+        throw new IOException(e);
+      }
+    }
+  }
 }
@@ -22,6 +22,8 @@ import static org.fest.util.Strings.isEmpty;
 import java.awt.image.BufferedImage;
 import java.util.logging.Logger;
 
+import org.apache.tools.ant.util.FileUtils;
+
 import org.fest.swing.image.ImageFileWriter;
 
 /**
@@ -105,5 +107,25 @@ public final class ImageHandler {
     return EMPTY_STRING;
   }
 
+  /**
+   * Copies the image file in the given source path to the given path. Failures in copying the file are simply logged,
+   * no exceptions are thrown.
+   * @param source the path of the image file to copy.
+   * @param path the path where to copy the image file.
+   * @return empty <code>String</code>. This method is used by this extensions XSL stylesheets to copy the images
+   * referenced in the XML report.
+   */
+  public static String copyImageFile(String source, String path) {
+    if (isEmpty(source)) return EMPTY_STRING;
+    if (isEmpty(path)) return EMPTY_STRING;
+    String realPath = path.replace("/", separator);
+    try {
+      FileUtils.getFileUtils().copyFile(source, realPath);
+    } catch (Exception ignored) {
+      logger.log(SEVERE, ignored.getMessage());
+    }
+    return EMPTY_STRING;
+  }
+
   private ImageHandler() {}
 }
@@ -0,0 +1,91 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.junit.ant;
+
+import static org.apache.tools.ant.util.FileUtils.close;
+import static org.fest.swing.image.ImageFileExtensions.PNG;
+import static org.fest.util.Strings.*;
+
+import java.awt.image.BufferedImage;
+import java.io.*;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import javax.imageio.ImageIO;
+
+/**
+ * Understands how to store screenshots as PNG files named after the SHA-1 hash of their contents. Identical screenshots
+ * are stored only once.
+ *
+ * @author Alex Ruiz
+ */
+class ScreenshotFileStore {
+
+  private static final String DIGEST_ALGORITHM = "SHA-1";
+  private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+  private final File directory;
+
+  ScreenshotFileStore(File directory) {
+    this.directory = directory;
+  }
+
+  /**
+   * Encodes the given image as PNG and stores it in this store's directory. The image is hashed while it is written to
+   * a temporary file, which is then renamed after the hash.
+   * @param image the image to store.
+   * @return the absolute path of the stored file.
+   * @throws IOException if the image cannot be encoded or stored.
+   */
+  String store(BufferedImage image) throws IOException {
+    if (!directory.isDirectory() && !directory.mkdirs())
+      throw new IOException(concat("Unable to create directory ", quote(directory.getAbsolutePath())));
+    File temporary = File.createTempFile("screenshot", ".tmp", directory);
+    MessageDigest digest = newDigest();
+    OutputStream out = new DigestOutputStream(new BufferedOutputStream(new FileOutputStream(temporary)), digest);
+    try {
+      ImageIO.write(image, PNG, out);
+    } catch (IOException e) {
+      close(out);
+      temporary.delete();
+      throw e;
+    }
+    close(out);
+    File stored = new File(directory, join(hex(digest.digest()), PNG).with("."));
+    boolean moved = !stored.isFile() && temporary.renameTo(stored);
+    if (!moved) temporary.delete();
+    if (!stored.isFile()) throw new IOException(concat("Unable to store screenshot as ", quote(stored.getAbsolutePath())));
+    return stored.getAbsolutePath();
+  }
+
+  private static MessageDigest newDigest() throws IOException {
+    try {
+      return MessageDigest.getInstance(DIGEST_ALGORITHM);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IOException(e);
+    }
+  }
+
+  private static String hex(byte[] bytes) {
+    char[] chars = new char[bytes.length * 2];
+    for (int i = 0; i < bytes.length; i++) {
+      chars[2 * i] = HEX_DIGITS[(bytes[i] >> 4) & 0xf];
+      chars[2 * i + 1] = HEX_DIGITS[bytes[i] & 0xf];
+    }
+    return new String(chars);
+  }
+}
@@ -15,6 +15,10 @@
 package org.fest.swing.junit.ant;
 
 import static org.apache.tools.ant.taskdefs.optional.junit.XMLConstants.ERROR;
+import static org.fest.util.Strings.isEmpty;
+
+import java.io.File;
+
 import junit.framework.Test;
 
 import org.apache.tools.ant.taskdefs.optional.junit.JUnitTest;
@@ -27,11 +31,21 @@ import org.fest.swing.junit.xml.XmlNode;
  * <strong>Note:</strong> A test is consider a GUI test if it is marked with the annotation
  * <code>{@link org.fest.swing.annotation.GUITest}</code>.
  * </p>
+ * <p>
+ * Screenshots are embedded in the XML report as base64 characters. When the system property
+ * <code>{@value #SCREENSHOT_DIRECTORY_PROPERTY}</code> is set, screenshots are stored instead as PNG files in that
+ * directory, named after the SHA-1 hash of their contents, and the XML report only contains their paths.
+ * </p>
  *
  * @author Alex Ruiz
  */
 public final class ScreenshotOnFailureResultFormatter extends XmlJUnitResultFormatter {
 
+  /**
+   * Name of the system property specifying the directory where to store screenshots as files.
+   */
+  public static final String SCREENSHOT_DIRECTORY_PROPERTY = "fest.swing.junit.screenshots.dir";
+
   private ScreenshotXmlWriter screenshotXmlWriter;
 
   /**
@@ -41,12 +55,18 @@ public final class ScreenshotOnFailureResultFormatter extends XmlJUnitResultForm
    */
   @Override protected void onStartTestSuite(JUnitTest suite) {
     try {
-      screenshotXmlWriter = new ScreenshotXmlWriter();
+      screenshotXmlWriter = new ScreenshotXmlWriter(screenshotFileStore(), streaming());
     } catch (ImageException e) {
       informCannotTakeScreenshots(e);
     }
   }
 
+  private static ScreenshotFileStore screenshotFileStore() {
+    String directory = System.getProperty(SCREENSHOT_DIRECTORY_PROPERTY);
+    if (isEmpty(directory)) return null;
+    return new ScreenshotFileStore(new File(directory));
+  }
+
   private void informCannotTakeScreenshots(ImageException error) {
     XmlNode errorNode = xmlRootNode().addNewNode(ERROR);
     writeErrorAndStackTrace(error, errorNode);
@@ -14,13 +14,17 @@
  */
 package org.fest.swing.junit.ant;
 
+import static java.util.logging.Level.SEVERE;
 import static org.fest.swing.image.ImageFileExtensions.PNG;
 import static org.fest.swing.junit.ant.ImageHandler.encodeBase64;
+import static org.fest.swing.junit.ant.StreamingXmlNodeWriter.IMAGE_USER_DATA;
 import static org.fest.swing.junit.ant.Tests.*;
 import static org.fest.swing.junit.xml.XmlAttribute.name;
 import static org.fest.util.Strings.*;
 
 import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.logging.Logger;
 
 import junit.framework.Test;
 
@@ -36,37 +40,83 @@ class ScreenshotXmlWriter {
 
   private static final String SCREENSHOT_ELEMENT = "screenshot";
   private static final String SCREENSHOT_FILE_ATTRIBUTE = "file";
+  private static final String SCREENSHOT_SOURCE_ATTRIBUTE = "src";
+
+  private static Logger logger = Logger.getAnonymousLogger();
 
   private final ScreenshotTaker screenshotTaker;
   private final GUITestRecognizer guiTestRecognizer;
+  private final ScreenshotFileStore fileStore;
+  private final boolean streaming;
 
-  ScreenshotXmlWriter() {
-    this(new ScreenshotTaker(), new GUITestRecognizer());
+  /**
+   * Creates a new </code>{@link ScreenshotXmlWriter}</code>.
+   * @param fileStore if not <code>null</code>, screenshots are stored as files and referenced from the XML report
+   * through their path, instead of being embedded.
+   * @param streaming if <code>true</code>, embedded screenshots are base64-encoded when the XML report is written,
+   * instead of when they are taken.
+   */
+  ScreenshotXmlWriter(ScreenshotFileStore fileStore, boolean streaming) {
+    this(new ScreenshotTaker(), new GUITestRecognizer(), fileStore, streaming);
   }
 
   ScreenshotXmlWriter(ScreenshotTaker screenshotTaker, GUITestRecognizer guiTestRecognizer) {
+    this(screenshotTaker, guiTestRecognizer, null, false);
+  }
+
+  ScreenshotXmlWriter(ScreenshotTaker screenshotTaker, GUITestRecognizer guiTestRecognizer,
+      ScreenshotFileStore fileStore, boolean streaming) {
     this.screenshotTaker = screenshotTaker;
     this.guiTestRecognizer = guiTestRecognizer;
+    this.fileStore = fileStore;
+    this.streaming = streaming;
   }
 
   void writeScreenshot(XmlNode target, Test test) {
     String testClass = testClassNameFrom(test);
     String testMethod = testMethodNameFrom(test);
     if (!guiTestRecognizer.isGUITest(testClass, testMethod)) return;
-    String image = takeScreenshotAndReturnEncoded();
-    if (isEmpty(image)) return;
-    writeScreenshotFileName(target, image, imageFileName(testClass, testMethod));
+    BufferedImage image = screenshotTaker.takeDesktopScreenshot();
+    String imageFileName = imageFileName(testClass, testMethod);
+    if (fileStore != null) {
+      writeScreenshotSource(target, image, imageFileName);
+      return;
+    }
+    if (streaming) {
+      writeScreenshotImage(target, image, imageFileName);
+      return;
+    }
+    String encodedImage = encodeBase64(image);
+    if (isEmpty(encodedImage)) return;
+    addScreenshotNode(target, imageFileName).addText(encodedImage);
   }
 
-  private String takeScreenshotAndReturnEncoded() {
-    BufferedImage image = screenshotTaker.takeDesktopScreenshot();
-    return encodeBase64(image);
+  private void writeScreenshotSource(XmlNode target, BufferedImage image, String imageFileName) {
+    String path = storeAsFile(image);
+    if (isEmpty(path)) return;
+    addScreenshotNode(target, imageFileName).addAttribute(name(SCREENSHOT_SOURCE_ATTRIBUTE).value(path));
+  }
+
+  private String storeAsFile(BufferedImage image) {
+    if (image == null) return null;
+    try {
+      return fileStore.store(image);
+    } catch (IOException e) {
+      logger.log(SEVERE, "Unable to store screenshot", e);
+      return null;
+    }
+  }
+
+  // the image is encoded by StreamingXmlNodeWriter when the XML of the test is written
+  private void writeScreenshotImage(XmlNode target, BufferedImage image, String imageFileName) {
+    if (image == null) return;
+    addScreenshotNode(target, imageFileName).target().setUserData(IMAGE_USER_DATA, image, null);
   }
 
-  private void writeScreenshotFileName(XmlNode target, String encodedImage, String imageFileName) {
+  private XmlNode addScreenshotNode(XmlNode target, String imageFileName) {
     XmlNode screenshotNode = target.parentNode().addNewNode(SCREENSHOT_ELEMENT);
     screenshotNode.addAttribute(name(SCREENSHOT_FILE_ATTRIBUTE).value(imageFileName));
-    screenshotNode.addText(encodedImage);
+    return screenshotNode;
   }
 
   private String imageFileName(String testClass, String testMethod) {
@@ -0,0 +1,111 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.junit.ant;
+
+import static org.w3c.dom.Node.*;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+import org.apache.tools.ant.util.DOMElementWriter;
+import org.w3c.dom.*;
+
+/**
+ * Understands how to write DOM nodes to a StAX <code>{@link XMLStreamWriter}</code>. Elements carrying an image as user
+ * data (under the key <code>{@link #IMAGE_USER_DATA}</code>) get the image's base64 encoding as text, which is streamed
+ * straight from the PNG encoder to the output.
+ *
+ * @author Alex Ruiz
+ */
+class StreamingXmlNodeWriter {
+
+  static final String IMAGE_USER_DATA = "org.fest.swing.junit.ant.image";
+
+  private static final String CDATA_END = "]]>";
+
+  private final ImageEncoder imageEncoder;
+  private final DOMElementWriter characterChecker = new DOMElementWriter();
+
+  StreamingXmlNodeWriter() {
+    this(new ImageEncoder());
+  }
+
+  StreamingXmlNodeWriter(ImageEncoder imageEncoder) {
+    this.imageEncoder = imageEncoder;
+  }
+
+  void writeStartElement(Element e, XMLStreamWriter out) throws XMLStreamException {
+    out.writeStartElement(e.getTagName());
+    NamedNodeMap attributes = e.getAttributes();
+    for (int i = 0; i < attributes.getLength(); i++) {
+      Attr a = (Attr)attributes.item(i);
+      out.writeAttribute(a.getName(), legal(a.getValue()));
+    }
+  }
+
+  void write(Node n, XMLStreamWriter out) throws XMLStreamException, IOException {
+    switch (n.getNodeType()) {
+      case ELEMENT_NODE:
+        writeElement((Element)n, out);
+        break;
+      case CDATA_SECTION_NODE:
+        writeCdata(((CDATASection)n).getData(), out);
+        break;
+      case TEXT_NODE:
+        out.writeCharacters(legal(((Text)n).getData()));
+        break;
+      default:
+        // comments and processing instructions are not part of the report
+    }
+  }
+
+  private void writeElement(Element e, XMLStreamWriter out) throws XMLStreamException, IOException {
+    writeStartElement(e, out);
+    NodeList children = e.getChildNodes();
+    for (int i = 0; i < children.getLength(); i++) write(children.item(i), out);
+    Object image = e.getUserData(IMAGE_USER_DATA);
+    if (image instanceof BufferedImage) imageEncoder.encodeBase64((BufferedImage)image, out);
+    out.writeEndElement();
+  }
+
+  // a CDATA section cannot contain its own end marker, it has to be split in two sections
+  private void writeCdata(String data, XMLStreamWriter out) throws XMLStreamException {
+    String legal = legal(data);
+    int start = 0;
+    int end;
+    while ((end = legal.indexOf(CDATA_END, start)) >= 0) {
+      out.writeCData(legal.substring(start, end + 2));
+      start = end + 2;
+    }
+    out.writeCData(legal.substring(start));
+  }
+
+  private String legal(String s) {
+    StringBuilder b = null;
+    for (int i = 0; i < s.length(); i++) {
+      char c = s.charAt(i);
+      if (characterChecker.isLegalCharacter(c)) {
+        if (b != null) b.append(c);
+        continue;
+      }
+      if (b == null) b = new StringBuilder(s.length()).append(s, 0, i);
+    }
+    return b != null ? b.toString() : s;
+  }
+}
@@ -16,9 +16,11 @@
 package org.fest.swing.junit.ant;
 
 import static java.lang.System.currentTimeMillis;
+import static java.util.Collections.newSetFromMap;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 
@@ -36,8 +38,10 @@ class TestCollection {
   final Map<Test, XmlNode> testXml = new ConcurrentHashMap<Test, XmlNode>();
   final List<Test> failed = new CopyOnWriteArrayList<Test>();
   final Map<Test, Long> started = new ConcurrentHashMap<Test, Long>();
+  final Set<Test> ended = newSetFromMap(new ConcurrentHashMap<Test, Boolean>());
 
   void started(Test test) {
+    ended.remove(test);
     started.put(test, currentTimeMillis());
   }
 
@@ -64,4 +68,18 @@ class TestCollection {
   void failed(Test test) {
     failed.add(test);
   }
+
+  void ended(Test test) {
+    ended.add(test);
+  }
+
+  boolean hasEnded(Test test) {
+    return ended.contains(test);
+  }
+
+  void remove(Test test) {
+    testXml.remove(test);
+    failed.remove(test);
+    started.remove(test);
+  }
 }
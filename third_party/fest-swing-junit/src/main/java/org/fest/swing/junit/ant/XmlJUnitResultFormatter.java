@@ -14,6 +14,7 @@
  */
 package org.fest.swing.junit.ant;
 
+import static java.lang.Boolean.getBoolean;
 import static org.apache.tools.ant.taskdefs.optional.junit.XMLConstants.*;
 
 import java.io.OutputStream;
@@ -29,12 +30,24 @@ import org.fest.swing.junit.xml.XmlNode;
 
 /**
  * Understands a copy of the original <code>XMLJUnitResultFormatter</code>, with flexibility for extension.
+ * <p>
+ * By default the whole XML report is kept in memory until the test suite ends. When the system property
+ * <code>{@value #STREAMING_PROPERTY}</code> is set to <code>true</code> (e.g. using a <code>sysproperty</code> in the
+ * <code>junit</code> task) the XML of each finished test is written to a temporary file using StAX and then discarded,
+ * and the final report is streamed from that file.
+ * </p>
  *
  * @author Alex Ruiz
  */
 public class XmlJUnitResultFormatter implements JUnitResultFormatter {
 
+  /**
+   * Name of the system property that turns on streaming of the XML report.
+   */
+  public static final String STREAMING_PROPERTY = "fest.swing.junit.streaming";
+
   private XmlNode xmlRoot;
+  private XmlNodeSpool spool;
 
   private OutputStream out;  // where to write the log to
 
@@ -46,10 +59,17 @@ public class XmlJUnitResultFormatter implements JUnitResultFormatter {
 
   private final XmlOutputWriter xmlOutputWriter;
 
+  private final boolean streaming;
+
   /**
    * Creates a new </code>{@link XmlJUnitResultFormatter}</code>.
    */
   public XmlJUnitResultFormatter() {
+    this(getBoolean(STREAMING_PROPERTY));
+  }
+
+  XmlJUnitResultFormatter(boolean streaming) {
+    this.streaming = streaming;
     tests = new TestCollection();
     suiteXmlNodeWriter = new SuiteXmlNodeWriter();
     environmentXmlNodeWriter = new EnvironmentXmlNodeWriter();
@@ -60,6 +80,8 @@ public class XmlJUnitResultFormatter implements JUnitResultFormatter {
   // for testing only
   final TestCollection tests() { return tests; }
 
+  final boolean streaming() { return streaming; }
+
   /**
    * Sets the stream the formatter is supposed to write its results to.
    * @param out the output stream to use.
@@ -98,6 +120,7 @@ public class XmlJUnitResultFormatter implements JUnitResultFormatter {
   public final void startTestSuite(JUnitTest suite) {
     XmlDocument document = new XmlDocument();
     xmlRoot = document.newRoot(TESTSUITE);
+    if (streaming) spool = new XmlNodeSpool();
     suiteXmlNodeWriter.writeSuiteName(xmlRoot, suite)
                       .writeSuiteProperties(xmlRoot, suite);
     environmentXmlNodeWriter.writeHostName(xmlRoot)
@@ -119,8 +142,21 @@ public class XmlJUnitResultFormatter implements JUnitResultFormatter {
    */
   public final void endTestSuite(JUnitTest suite) {
     suiteXmlNodeWriter.writeSuiteStatistics(xmlRoot, suite);
+    try {
+      writeXml();
+    } finally {
+      if (spool != null) spool.delete();
+      spool = null;
+    }
+  }
+
+  private void writeXml() {
     if (out == null) return;
-    xmlOutputWriter.write(xmlRoot, out);
+    if (spool == null) {
+      xmlOutputWriter.write(xmlRoot, out);
+      return;
+    }
+    xmlOutputWriter.write(xmlRoot, spool, out);
   }
 
   /**
@@ -132,13 +168,24 @@ public class XmlJUnitResultFormatter implements JUnitResultFormatter {
   }
 
   /**
-   * A test is finished.
+   * A test is finished. When streaming, this method writes the XML of the test to a temporary file and discards it.
+   * Failures and errors reported for the test after it finished do not create a new XML node for the test.
    * @param test the test.
    */
   public final void endTest(Test test) {
+    XmlNode testNode = finishTest(test);
+    tests.ended(test);
+    if (spool == null) return;
+    spool.append(testNode);
+    testNode.remove();
+    tests.remove(test);
+  }
+
+  private XmlNode finishTest(Test test) {
     if (!tests.wasStarted(test)) startTest(test);
     XmlNode testNode = xmlNodeForFinished(test);
     testXmlNodeWriter.writeTestExecutionTime(testNode, tests.startTimeOf(test));
+    return testNode;
   }
 
   private XmlNode xmlNodeForFinished(Test test) {
@@ -178,8 +225,8 @@ public class XmlJUnitResultFormatter implements JUnitResultFormatter {
   }
 
   private XmlNode formatError(String type, Test test, Throwable error) {
-    if (test != null) {
-      endTest(test);
+    if (test != null && !tests.hasEnded(test)) {
+      finishTest(test);
       tests.failed(test);
     }
     XmlNode errorXmlNode = xmlForFailed(test).addNewNode(type);
@@ -187,8 +234,10 @@ public class XmlJUnitResultFormatter implements JUnitResultFormatter {
     return errorXmlNode;
   }
 
+  // the XML node of a test is discarded after the test ends when streaming, the suite node is used instead
   private XmlNode xmlForFailed(Test test) {
-    if (test != null) return tests.xmlNodeFor(test);
+    XmlNode testNode = test != null ? tests.xmlNodeFor(test) : null;
+    if (testNode != null) return testNode;
     return xmlRoot;
   }
 
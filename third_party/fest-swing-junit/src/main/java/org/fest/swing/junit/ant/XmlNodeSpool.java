@@ -0,0 +1,122 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.junit.ant;
+
+import static org.apache.tools.ant.util.FileUtils.close;
+import static org.fest.swing.junit.ant.CommonConstants.UTF_8;
+import static org.fest.util.Systems.LINE_SEPARATOR;
+
+import java.io.*;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+import org.apache.tools.ant.BuildException;
+import org.fest.swing.junit.xml.XmlNode;
+
+/**
+ * Understands a temporary file where XML nodes are written as soon as they are complete, so they do not need to be kept
+ * in memory until the end of the test suite.
+ *
+ * @author Alex Ruiz
+ */
+class XmlNodeSpool {
+
+  private static final int COPY_BUFFER_SIZE = 8192;
+
+  private final StreamingXmlNodeWriter nodeWriter;
+
+  private File file;
+  private Writer writer;
+  private XMLStreamWriter xmlWriter;
+
+  XmlNodeSpool() {
+    this(new StreamingXmlNodeWriter());
+  }
+
+  XmlNodeSpool(StreamingXmlNodeWriter nodeWriter) {
+    this.nodeWriter = nodeWriter;
+  }
+
+  /**
+   * Writes the given node to the end of this spool.
+   * @param node the node to write.
+   * @throws BuildException if the node cannot be written.
+   */
+  void append(XmlNode node) {
+    try {
+      if (xmlWriter == null) open();
+      nodeWriter.write(node.target(), xmlWriter);
+      xmlWriter.writeCharacters(LINE_SEPARATOR);
+    } catch (XMLStreamException e) {
+      throw new BuildException("Unable to write test results to temporary file", e);
+    } catch (IOException e) {
+      throw new BuildException("Unable to write test results to temporary file", e);
+    }
+  }
+
+  private void open() throws IOException, XMLStreamException {
+    file = File.createTempFile("fest-junit", ".xml");
+    file.deleteOnExit();
+    writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), UTF_8));
+    xmlWriter = XMLOutputFactory.newInstance().createXMLStreamWriter(writer);
+  }
+
+  /**
+   * Copies the contents of this spool to the given <code>{@link Writer}</code>. No more nodes can be appended afterwards.
+   * @param out the destination of the copied contents.
+   * @throws IOException if the contents cannot be copied.
+   */
+  void copyTo(Writer out) throws IOException {
+    if (xmlWriter == null) return;
+    closeWriters();
+    Reader reader = new InputStreamReader(new FileInputStream(file), UTF_8);
+    try {
+      char[] buffer = new char[COPY_BUFFER_SIZE];
+      int read;
+      while ((read = reader.read(buffer)) != -1) out.write(buffer, 0, read);
+    } finally {
+      close(reader);
+    }
+  }
+
+  private void closeWriters() throws IOException {
+    try {
+      xmlWriter.flush();
+      xmlWriter.close();
+      writer.flush();
+    } catch (XMLStreamException e) {
+      throw new IOException(e);
+    } finally {
+      xmlWriter = null;
+      close(writer);
+    }
+  }
+
+  /**
+   * Deletes the temporary file backing this spool.
+   */
+  void delete() {
+    if (xmlWriter != null) {
+      try {
+        closeWriters();
+      } catch (IOException ignored) {}
+    }
+    if (file != null) file.delete();
+    file = null;
+  }
+}
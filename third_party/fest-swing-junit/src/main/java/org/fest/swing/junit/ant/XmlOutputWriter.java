@@ -20,9 +20,15 @@ import static org.fest.util.Systems.LINE_SEPARATOR;
 
 import java.io.*;
 
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
 import org.apache.tools.ant.BuildException;
 import org.apache.tools.ant.util.DOMElementWriter;
 import org.fest.swing.junit.xml.XmlNode;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
 
 /**
  * Understands writing the contents of an XML document to an <code>{@link OutputStream}</code>.
@@ -36,13 +42,19 @@ class XmlOutputWriter {
   private static final String INDENT = "  ";
 
   private final StandardOutputStreams outputStreams;
+  private final StreamingXmlNodeWriter streamingXmlNodeWriter;
 
   XmlOutputWriter() {
     this(new StandardOutputStreams());
   }
 
   XmlOutputWriter(StandardOutputStreams outputStreams) {
+    this(outputStreams, new StreamingXmlNodeWriter());
+  }
+
+  XmlOutputWriter(StandardOutputStreams outputStreams, StreamingXmlNodeWriter streamingXmlNodeWriter) {
     this.outputStreams = outputStreams;
+    this.streamingXmlNodeWriter = streamingXmlNodeWriter;
   }
 
   void write(XmlNode xml, OutputStream out) {
@@ -63,4 +75,49 @@ class XmlOutputWriter {
       if (!outputStreams.isStandardOutOrErr(out)) close(writer);
     }
   }
+
+  /**
+   * Writes the given XML root node and the test nodes in the given spool using StAX. The spooled nodes are copied right
+   * after the first child of the root node (the suite properties).
+   * @param xml the root node of the report.
+   * @param spool contains the XML nodes of the finished tests.
+   * @param out the stream to write to.
+   * @throws BuildException if the report cannot be written.
+   */
+  void write(XmlNode xml, XmlNodeSpool spool, OutputStream out) {
+    Writer writer = null;
+    try {
+      writer = new BufferedWriter(new OutputStreamWriter(out, CHARSET));
+      writer.write(XML_HEADER);
+      writer.write(LINE_SEPARATOR);
+      XMLStreamWriter xmlWriter = XMLOutputFactory.newInstance().createXMLStreamWriter(writer);
+      Element root = xml.target();
+      streamingXmlNodeWriter.writeStartElement(root, xmlWriter);
+      xmlWriter.writeCharacters(LINE_SEPARATOR);
+      NodeList children = root.getChildNodes();
+      int childCount = children.getLength();
+      for (int i = 0; i < childCount; i++) {
+        streamingXmlNodeWriter.write(children.item(i), xmlWriter);
+        xmlWriter.writeCharacters(LINE_SEPARATOR);
+        if (i == 0) copySpool(spool, xmlWriter, writer);
+      }
+      if (childCount == 0) copySpool(spool, xmlWriter, writer);
+      xmlWriter.writeEndElement();
+      xmlWriter.flush();
+      writer.write(LINE_SEPARATOR);
+      writer.flush();
+    } catch (XMLStreamException ex) {
+      throw new BuildException("Unable to write log file", ex);
+    } catch (IOException ex) {
+      throw new BuildException("Unable to write log file", ex);
+    } finally {
+      if (!outputStreams.isStandardOutOrErr(out)) close(writer);
+    }
+  }
+
+  private void copySpool(XmlNodeSpool spool, XMLStreamWriter xmlWriter, Writer writer)
+      throws XMLStreamException, IOException {
+    xmlWriter.flush();
+    spool.copyTo(writer);
+  }
 }
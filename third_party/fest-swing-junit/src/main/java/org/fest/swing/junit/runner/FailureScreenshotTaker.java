@@ -23,6 +23,7 @@ import static org.fest.util.Strings.*;
 import java.io.File;
 import java.util.logging.Logger;
 
+import org.fest.swing.image.BackgroundImageFileWriter;
 import org.fest.swing.image.ScreenshotTaker;
 
 /**
@@ -36,6 +37,7 @@ public class FailureScreenshotTaker {
 
   private final File imageFolder;
   private final ScreenshotTaker screenshotTaker;
+  private final BackgroundImageFileWriter backgroundWriter;
 
   /**
    * Creates a new </code>{@link FailureScreenshotTaker}</code>.
@@ -46,21 +48,40 @@ public class FailureScreenshotTaker {
   }
 
   FailureScreenshotTaker(File imageFolder, ScreenshotTaker screenshotTaker) {
+    this(imageFolder, screenshotTaker, BackgroundImageFileWriter.instance());
+  }
+
+  FailureScreenshotTaker(File imageFolder, ScreenshotTaker screenshotTaker,
+      BackgroundImageFileWriter backgroundWriter) {
     this.imageFolder = imageFolder;
     this.screenshotTaker = screenshotTaker;
+    this.backgroundWriter = backgroundWriter;
   }
 
   /**
-   * Saves a screenshot of the desktop using the given description as the file name.
+   * Saves a screenshot of the desktop using the given description as the file name. The screenshot is saved in a
+   * background thread; errors saving it are logged by the <code>{@link BackgroundImageFileWriter}</code>.
    * @param failedTest the description of the test failure.
    */
   public void saveScreenshot(String failedTest) {
     try {
       String fileName = concat(imageFolder.getCanonicalPath(), separator, failedTest, ".", PNG);
-      screenshotTaker.saveDesktopAsPng(fileName);
-      logger.info(concat("Screenshot of failed test saved as ", quote(fileName)));
+      screenshotTaker.saveDesktopAsPngInBackground(fileName);
+      logger.info(concat("Screenshot of failed test being saved as ", quote(fileName)));
     } catch (Exception e) {
       logger.log(WARNING, concat("Unable to take screenshot of failed test ", quote(failedTest)), e);
     }
   }
+
+  /**
+   * Waits until the screenshots being saved in a background thread have been written.
+   */
+  public void flushPendingScreenshots() {
+    try {
+      backgroundWriter.flush();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      logger.log(WARNING, "Interrupted while waiting for screenshots of failed tests to be saved", e);
+    }
+  }
 }
@@ -0,0 +1,86 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.junit.runner;
+
+import static org.fest.util.Strings.*;
+import static org.fest.util.Systems.LINE_SEPARATOR;
+
+import java.util.logging.Logger;
+
+import org.fest.swing.metrics.Metrics;
+import org.fest.swing.metrics.MetricsSummary;
+import org.fest.swing.metrics.PerThreadMetricsRecorder;
+import org.junit.runner.Description;
+import org.junit.runner.Result;
+import org.junit.runner.notification.RunListener;
+
+/**
+ * Understands a JUnit <code>{@link RunListener}</code> that measures the operations performed by FEST-Swing (see
+ * <code>{@link org.fest.swing.metrics.Operation}</code>) during each test, and logs a summary of them when the test
+ * finishes.
+ * <p>
+ * This listener installs its own <code>{@link PerThreadMetricsRecorder}</code> when a test starts, and uninstalls it
+ * when the test run finishes. Measurements are kept per test thread, so tests running in parallel do not discard each
+ * other's measurements. It can be registered with <code>JUnitCore.addListener</code> or, when using Maven, as the
+ * <code>listener</code> property of the Surefire plug-in.
+ * </p>
+ *
+ * @author Alex Ruiz
+ */
+public class MetricsSummaryListener extends RunListener {
+
+  private static Logger logger = Logger.getAnonymousLogger();
+
+  private final PerThreadMetricsRecorder recorder;
+
+  /**
+   * Creates a new <code>{@link MetricsSummaryListener}</code>.
+   */
+  public MetricsSummaryListener() {
+    this(new PerThreadMetricsRecorder());
+  }
+
+  MetricsSummaryListener(PerThreadMetricsRecorder recorder) {
+    this.recorder = recorder;
+  }
+
+  /**
+   * Starts measuring the operations performed by FEST-Swing in the thread running the given test.
+   * @param description describes the test to run.
+   */
+  @Override public void testStarted(Description description) {
+    if (Metrics.recorder() != recorder) Metrics.install(recorder);
+    recorder.startRecording();
+  }
+
+  /**
+   * Logs a summary of the measurements taken during the given test.
+   * @param description describes the finished test.
+   */
+  @Override public void testFinished(Description description) {
+    MetricsSummary summary = recorder.stopRecording();
+    if (summary.isEmpty()) return;
+    logger.info(concat("FEST-Swing metrics of ", quote(description.getDisplayName()), ":", LINE_SEPARATOR, summary));
+  }
+
+  /**
+   * Stops measuring the operations performed by FEST-Swing.
+   * @param result the summary of the test run.
+   */
+  @Override public void testRunFinished(Result result) {
+    if (Metrics.recorder() == recorder) Metrics.uninstall();
+  }
+}
@@ -122,6 +122,15 @@ public class XmlNode {
     return xmlNodeFrom(target.getParentNode());
   }
 
+  /**
+   * Removes this node from its parent node, if it has one.
+   */
+  public void remove() {
+    Node parent = target.getParentNode();
+    if (parent == null) return;
+    parent.removeChild(target);
+  }
+
   /**
    * Returns the number of children in this node.
    * @return the number of children in this node.
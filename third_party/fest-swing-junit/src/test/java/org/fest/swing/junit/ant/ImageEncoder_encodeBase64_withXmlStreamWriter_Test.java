@@ -0,0 +1,101 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.junit.ant;
+
+import static java.awt.image.BufferedImage.TYPE_INT_RGB;
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.swing.image.ImageFileExtensions.PNG;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+import java.util.Random;
+
+import javax.imageio.ImageIO;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamWriter;
+
+import org.apache.commons.codec.binary.Base64;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link ImageEncoder#encodeBase64(BufferedImage, XMLStreamWriter)}</code>.
+ *
+ * @author Alex Ruiz
+ */
+public class ImageEncoder_encodeBase64_withXmlStreamWriter_Test {
+
+  private static final String ELEMENT = "screenshot";
+
+  private final Random random = new Random(6);
+  private ImageEncoder encoder;
+
+  @Before public void setUp() {
+    encoder = new ImageEncoder();
+  }
+
+  @Test
+  public void should_write_base64_characters_that_decode_to_PNG_bytes_with_every_padding_length() throws Exception {
+    boolean[] paddingLengthsFound = new boolean[3];
+    // the size of the PNG of a small image with random pixels grows by 3 bytes per pixel: vary the height too
+    for (int height = 1; height <= 3; height++)
+      for (int width = 1; width <= 16; width++) {
+        byte[] png = assertThatStreamedBase64DecodesToPng(randomImage(width, height));
+        paddingLengthsFound[(3 - png.length % 3) % 3] = true;
+      }
+    assertThat(paddingLengthsFound).isEqualTo(new boolean[] { true, true, true });
+  }
+
+  @Test
+  public void should_write_base64_characters_that_decode_to_PNG_bytes_of_image_larger_than_buffer() throws Exception {
+    byte[] png = assertThatStreamedBase64DecodesToPng(randomImage(200, 100));
+    assertThat(png.length).isGreaterThan(3 * 1024 * 4);
+  }
+
+  private byte[] assertThatStreamedBase64DecodesToPng(BufferedImage image) throws Exception {
+    byte[] png = pngBytesOf(image);
+    String encoded = streamedBase64Of(image);
+    assertThat(encoded).isEqualTo(new String(Base64.encodeBase64(png), "UTF-8"));
+    assertThat(Base64.decodeBase64(encoded.getBytes("UTF-8"))).isEqualTo(png);
+    return png;
+  }
+
+  private String streamedBase64Of(BufferedImage image) throws Exception {
+    StringWriter xml = new StringWriter();
+    XMLStreamWriter xmlWriter = XMLOutputFactory.newInstance().createXMLStreamWriter(xml);
+    xmlWriter.writeStartElement(ELEMENT);
+    encoder.encodeBase64(image, xmlWriter);
+    xmlWriter.writeEndElement();
+    xmlWriter.close();
+    String content = xml.toString();
+    return content.substring(content.indexOf('>') + 1, content.lastIndexOf('<'));
+  }
+
+  private static byte[] pngBytesOf(BufferedImage image) throws Exception {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    ImageIO.write(image, PNG, out);
+    return out.toByteArray();
+  }
+
+  private BufferedImage randomImage(int width, int height) {
+    BufferedImage image = new BufferedImage(width, height, TYPE_INT_RGB);
+    for (int x = 0; x < width; x++)
+      for (int y = 0; y < height; y++)
+        image.setRGB(x, y, random.nextInt());
+    return image;
+  }
+}
@@ -0,0 +1,64 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.junit.ant;
+
+import static java.awt.image.BufferedImage.TYPE_BYTE_BINARY;
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.util.Files.newTemporaryFolder;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+
+import org.junit.*;
+
+/**
+ * Tests for <code>{@link ScreenshotFileStore#store(BufferedImage)}</code>.
+ *
+ * @author Alex Ruiz
+ */
+public class ScreenshotFileStore_store_Test {
+
+  private File directory;
+  private ScreenshotFileStore store;
+
+  @Before public void setUp() {
+    directory = new File(newTemporaryFolder(), "screenshots");
+    store = new ScreenshotFileStore(directory);
+  }
+
+  @After public void tearDown() {
+    File[] files = directory.listFiles();
+    if (files != null) for (File file : files) file.delete();
+    directory.delete();
+  }
+
+  @Test
+  public void should_store_image_as_PNG_file_named_after_its_contents() throws IOException {
+    String path = store.store(new BufferedImage(10, 10, TYPE_BYTE_BINARY));
+    File file = new File(path);
+    assertThat(file.getParentFile()).isEqualTo(directory.getAbsoluteFile());
+    assertThat(file.getName().matches("[0-9a-f]{40}\\.png")).isTrue();
+    assertThat(directory.list()).containsOnly(file.getName());
+  }
+
+  @Test
+  public void should_store_identical_images_only_once() throws IOException {
+    String path = store.store(new BufferedImage(10, 10, TYPE_BYTE_BINARY));
+    assertThat(store.store(new BufferedImage(10, 10, TYPE_BYTE_BINARY))).isEqualTo(path);
+    assertThat(directory.list()).hasSize(1);
+  }
+}
@@ -20,6 +20,7 @@ import static org.easymock.EasyMock.expect;
 import static org.easymock.classextension.EasyMock.createMock;
 import static org.fest.assertions.Assertions.assertThat;
 import static org.fest.swing.junit.ant.ImageHandler.encodeBase64;
+import static org.fest.swing.junit.ant.StreamingXmlNodeWriter.IMAGE_USER_DATA;
 import static org.fest.swing.junit.ant.Tests.*;
 
 import java.awt.image.BufferedImage;
@@ -77,6 +78,27 @@ public class ScreenshotXmlWriter_writeScreenshot_Test {
     }.run();
   }
 
+  @Test
+  public void should_add_screenshot_element_with_image_to_encode_later_if_streaming() {
+    final BufferedImage image = new BufferedImage(10, 10, TYPE_BYTE_BINARY);
+    writer = new ScreenshotXmlWriter(screenshotTaker, guiTestRecognizer, null, true);
+    new EasyMockTemplate(screenshotTaker, guiTestRecognizer) {
+      @Override protected void expectations() {
+        expect(guiTestRecognizer.isGUITest(testClassNameFrom(test), testMethodNameFrom(test))).andReturn(true);
+        expect(screenshotTaker.takeDesktopScreenshot()).andReturn(image);
+      }
+
+      @Override protected void codeToTest() {
+        writer.writeScreenshot(errorNode, test);
+        assertThat(root.size()).isEqualTo(2);
+        XmlNode secondChild = root.child(1);
+        assertThat(secondChild.name()).isEqualTo("screenshot");
+        assertThat(secondChild.text()).isEmpty();
+        assertThat(secondChild.target().getUserData(IMAGE_USER_DATA)).isSameAs(image);
+      }
+    }.run();
+  }
+
   @Test
   public void should_not_add_screenshot_element_test_is_not_GUI_test() {
     new EasyMockTemplate(screenshotTaker, guiTestRecognizer) {
@@ -134,6 +134,14 @@ public abstract class XmlJUnitResultFormatter_TestCase {
     final OnStartTestSuiteAssert onStartTestSuiteMethod = new OnStartTestSuiteAssert();
     final OnFailureOrErrorAssert onFailureOrErrorMethod = new OnFailureOrErrorAssert();
 
+    BasicXmlJUnitResultFormatter() {
+      this(false);
+    }
+
+    BasicXmlJUnitResultFormatter(boolean streaming) {
+      super(streaming);
+    }
+
     @Override protected void onStartTestSuite(JUnitTest suite) {
       onStartTestSuiteMethod.calledWith(suite);
     }
@@ -0,0 +1,63 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.junit.ant;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import org.fest.swing.junit.xml.XmlNode;
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link XmlJUnitResultFormatter#addFailure(junit.framework.Test, Throwable)}</code> and
+ * <code>{@link XmlJUnitResultFormatter#addError(junit.framework.Test, Throwable)}</code>, when called after the test
+ * ended.
+ *
+ * @author Alex Ruiz
+ */
+public class XmlJUnitResultFormatter_addFailure_afterEndTest_Test extends XmlJUnitResultFormatter_TestCase {
+
+  @Test
+  public void should_add_failure_to_XML_node_of_ended_test() {
+    startSuite();
+    junit.framework.Test test = mockTest();
+    formatter.startTest(test);
+    formatter.endTest(test);
+    formatter.addFailure(test, errorOrFailure());
+    XmlNode root = root();
+    assertThat(root.size()).isEqualTo(2);
+    XmlNode failureNode = firstTestCaseNodeIn(root).child(0);
+    assertThat(failureNode.name()).isEqualTo("failure");
+    assertThatErrorOrFailureWasWrittenTo(failureNode);
+  }
+
+  @Test
+  public void should_add_error_to_suite_XML_node_if_XML_node_of_ended_test_was_discarded() {
+    formatter = new BasicXmlJUnitResultFormatter(true);
+    tests = formatter.tests();
+    formatter.setOutput(output);
+    startSuite();
+    junit.framework.Test test = mockTest();
+    formatter.startTest(test);
+    formatter.endTest(test);
+    formatter.addError(test, errorOrFailure());
+    XmlNode root = root();
+    assertThat(root.size()).isEqualTo(2);
+    XmlNode errorNode = root.child(1);
+    assertThat(errorNode.name()).isEqualTo("error");
+    assertThatErrorOrFailureWasWrittenTo(errorNode);
+    assertThat(tests.testXml).isEmpty();
+  }
+}
@@ -0,0 +1,75 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.junit.ant;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import org.apache.tools.ant.taskdefs.optional.junit.JUnitTest;
+import org.junit.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+
+/**
+ * Tests for <code>{@link XmlJUnitResultFormatter#endTestSuite(JUnitTest)}</code>, when streaming the XML report.
+ *
+ * @author Alex Ruiz
+ */
+public class XmlJUnitResultFormatter_endTestSuite_withStreaming_Test extends XmlJUnitResultFormatter_TestCase {
+
+  @Override void onSetUp() {
+    formatter = new BasicXmlJUnitResultFormatter(true);
+    tests = formatter.tests();
+    formatter.setOutput(output);
+  }
+
+  @Test
+  public void should_discard_XML_of_finished_tests() {
+    startSuite();
+    junit.framework.Test test = mockTest();
+    formatter.startTest(test);
+    formatter.endTest(test);
+    assertThat(root().size()).isEqualTo(1);
+    assertThat(tests.testXml).isEmpty();
+  }
+
+  @Test
+  public void should_write_XML_of_finished_tests_to_OutputStream() throws Exception {
+    JUnitTest suite = startSuite();
+    junit.framework.Test test = mockTest();
+    formatter.startTest(test);
+    formatter.addFailure(test, errorOrFailure());
+    formatter.endTest(test);
+    formatter.setSystemOutput(CONSOLE_OUTPUT);
+    suite.setCounts(1, 1, 0);
+    formatter.endTestSuite(suite);
+    Element root = parse(output.toByteArray()).getDocumentElement();
+    assertThat(root.getAttribute("failures")).isEqualTo("1");
+    assertThat(root.getAttribute("tests")).isEqualTo("1");
+    assertThat(root.getElementsByTagName("properties").getLength()).isEqualTo(1);
+    assertThat(root.getElementsByTagName("testcase").getLength()).isEqualTo(1);
+    assertThat(root.getElementsByTagName("failure").item(0).getAttributes().getNamedItem("message").getNodeValue())
+      .isEqualTo(ERROR_OR_FAILURE_MESSAGE);
+    assertThat(root.getElementsByTagName("system-out").item(0).getTextContent()).isEqualTo(CONSOLE_OUTPUT);
+  }
+
+  private static Document parse(byte[] xml) throws Exception {
+    return DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(new ByteArrayInputStream(xml));
+  }
+}
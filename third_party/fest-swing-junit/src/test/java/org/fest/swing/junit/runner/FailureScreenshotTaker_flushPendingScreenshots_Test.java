@@ -0,0 +1,80 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.junit.runner;
+
+import static org.easymock.EasyMock.expectLastCall;
+import static org.easymock.classextension.EasyMock.createMock;
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.io.File;
+
+import org.fest.mocks.EasyMockTemplate;
+import org.fest.swing.image.BackgroundImageFileWriter;
+import org.fest.swing.image.ScreenshotTaker;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link FailureScreenshotTaker#flushPendingScreenshots()}</code>.
+ *
+ * @author Alex Ruiz
+ */
+public class FailureScreenshotTaker_flushPendingScreenshots_Test {
+
+  private BackgroundImageFileWriter backgroundWriter;
+  private FailureScreenshotTaker failureScreenshotTaker;
+
+  @Before public void setUp() {
+    backgroundWriter = createMock(BackgroundImageFileWriter.class);
+    File imageFolder = createMock(File.class);
+    ScreenshotTaker screenshotTaker = createMock(ScreenshotTaker.class);
+    failureScreenshotTaker = new FailureScreenshotTaker(imageFolder, screenshotTaker, backgroundWriter);
+  }
+
+  @After public void tearDown() {
+    Thread.interrupted();
+  }
+
+  @Test
+  public void should_wait_for_pending_screenshots() {
+    new EasyMockTemplate(backgroundWriter) {
+      @Override protected void expectations() throws Exception {
+        backgroundWriter.flush();
+        expectLastCall().once();
+      }
+
+      @Override protected void codeToTest() {
+        failureScreenshotTaker.flushPendingScreenshots();
+      }
+    }.run();
+  }
+
+  @Test
+  public void should_not_rethrow_InterruptedException() {
+    new EasyMockTemplate(backgroundWriter) {
+      @Override protected void expectations() throws Exception {
+        backgroundWriter.flush();
+        expectLastCall().andThrow(new InterruptedException("Thrown on purpose"));
+      }
+
+      @Override protected void codeToTest() {
+        failureScreenshotTaker.flushPendingScreenshots();
+        assertThat(Thread.currentThread().isInterrupted()).isTrue();
+      }
+    }.run();
+  }
+}
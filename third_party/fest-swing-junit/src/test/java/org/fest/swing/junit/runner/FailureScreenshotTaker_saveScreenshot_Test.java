@@ -50,8 +50,8 @@ public class FailureScreenshotTaker_saveScreenshot_Test {
     new EasyMockTemplate(screenshotTaker, imageFolder) {
       @Override protected void expectations() throws Exception {
         expect(imageFolder.getCanonicalPath()).andReturn("myPath");
-        screenshotTaker.saveDesktopAsPng(concat("myPath", separator, "testName.png"));
-        expectLastCall().once();
+        expect(screenshotTaker.saveDesktopAsPngInBackground(concat("myPath", separator, "testName.png")))
+            .andReturn(null).once();
       }
 
       @Override protected void codeToTest() {
@@ -0,0 +1,128 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.testng.listener;
+
+import static org.fest.util.Strings.*;
+import static org.fest.util.Systems.LINE_SEPARATOR;
+
+import java.util.logging.Logger;
+
+import org.fest.swing.metrics.Metrics;
+import org.fest.swing.metrics.MetricsSummary;
+import org.fest.swing.metrics.PerThreadMetricsRecorder;
+import org.fest.util.VisibleForTesting;
+import org.testng.ITestContext;
+import org.testng.ITestResult;
+import org.testng.Reporter;
+
+/**
+ * Understands a <a href="http://testng.org" target="_blank">TestNG</a> listener that measures the operations performed
+ * by FEST-Swing (see <code>{@link org.fest.swing.metrics.Operation}</code>) during each test, and adds a summary of them
+ * to the test report when the test finishes.
+ * <p>
+ * This listener installs its own <code>{@link PerThreadMetricsRecorder}</code> when the tests start, and uninstalls it
+ * when they finish. Measurements are kept per test thread, so tests running in parallel do not discard each other's
+ * measurements.
+ * </p>
+ * <p>
+ * Example:
+ * <pre>
+ * &lt;target name=&quot;test&quot; depends=&quot;compile&quot;&gt;
+ *   &lt;testng <strong><span style="text-decoration: underline">listeners=&quot;org.fest.swing.testng.listener.MetricsSummaryListener&quot;</span></strong>
+ *     outputDir=&quot;${target.test.results.dir}&quot; classpathref=&quot;test.classpath&quot;&gt;
+ *     &lt;classfileset dir=&quot;${target.test.classes.dir}&quot; includes=&quot;&#42;&#42;/&#42;Test.class&quot; /&gt;
+ *   &lt;/testng&gt;
+ * &lt;/target&gt;
+ * </pre>
+ * </p>
+ *
+ * @author Alex Ruiz
+ */
+public class MetricsSummaryListener extends AbstractTestListener {
+
+  private static Logger logger = Logger.getAnonymousLogger();
+
+  private final PerThreadMetricsRecorder recorder;
+
+  /**
+   * Creates a new <code>{@link MetricsSummaryListener}</code>.
+   */
+  public MetricsSummaryListener() {
+    this(new PerThreadMetricsRecorder());
+  }
+
+  @VisibleForTesting
+  MetricsSummaryListener(PerThreadMetricsRecorder recorder) {
+    this.recorder = recorder;
+  }
+
+  /**
+   * Starts measuring the operations performed by FEST-Swing.
+   * @param context the test context.
+   */
+  @Override public void onStart(ITestContext context) {
+    Metrics.install(recorder);
+  }
+
+  /**
+   * Starts measuring the operations performed by FEST-Swing in the thread running the given test.
+   * @param result contains information about the test to run.
+   */
+  @Override public void onTestStart(ITestResult result) {
+    recorder.startRecording();
+  }
+
+  /**
+   * Adds a summary of the measurements taken during the given test to the test report.
+   * @param result contains information about the run test.
+   */
+  @Override public void onTestSuccess(ITestResult result) {
+    reportMetricsOf(result);
+  }
+
+  /**
+   * Adds a summary of the measurements taken during the given test to the test report.
+   * @param result contains information about the run test.
+   */
+  @Override public void onTestFailure(ITestResult result) {
+    reportMetricsOf(result);
+  }
+
+  /**
+   * Adds a summary of the measurements taken during the given test to the test report.
+   * @param result contains information about the run test.
+   */
+  @Override public void onTestSkipped(ITestResult result) {
+    reportMetricsOf(result);
+  }
+
+  private void reportMetricsOf(ITestResult result) {
+    MetricsSummary summary = recorder.stopRecording();
+    if (summary.isEmpty()) return;
+    String testName = join(result.getTestClass().getName(), result.getMethod().getMethodName()).with(".");
+    logger.info(concat("FEST-Swing metrics of ", quote(testName), ":", LINE_SEPARATOR, summary));
+    Reporter.setCurrentTestResult(result);
+    Reporter.log(concat("<pre>", summary, "</pre>"));
+  }
+
+  /**
+   * Stops measuring the operations performed by FEST-Swing.
+   * @param context the test context.
+   */
+  @Override public void onFinish(ITestContext context) {
+    if (Metrics.recorder() == recorder) Metrics.uninstall();
+  }
+}
@@ -23,6 +23,7 @@ import java.lang.reflect.Method;
 import java.util.logging.Logger;
 
 import org.fest.swing.annotation.GUITestFinder;
+import org.fest.swing.image.BackgroundImageFileWriter;
 import org.fest.swing.image.ImageException;
 import org.fest.swing.image.ScreenshotTaker;
 import org.fest.util.VisibleForTesting;
@@ -88,18 +89,31 @@ public class ScreenshotOnFailureListener extends AbstractTestListener {
 
   /**
    * When a test fails, this method takes a screenshot of the desktop and adds an hyperlink to the screenshot it in the
-   * HTML test report.
+   * HTML test report. The screenshot is saved in a background thread.
    * @param result contains information about the failing test.
    */
   @Override public void onTestFailure(ITestResult result) {
     if (!ready || !isGUITest(result)) return;
     String screenshotFileName = takeScreenshotAndReturnFileName(result);
     if (isEmpty(screenshotFileName)) return;
-    logger.info(concat("Screenshot of desktop saved as: ", quote(screenshotFileName)));
+    logger.info(concat("Screenshot of desktop being saved as: ", quote(screenshotFileName)));
     Reporter.setCurrentTestResult(result);
     Reporter.log(concat("<a href=\"", screenshotFileName, "\">Screenshot</a>"));
   }
 
+  /**
+   * Waits until all the screenshots taken so far are saved, so the TestNG reports link to existing files.
+   * @param context the test context.
+   */
+  @Override public void onFinish(ITestContext context) {
+    if (screenshotTaker == null) return;
+    try {
+      BackgroundImageFileWriter.instance().flush();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
   private static boolean isGUITest(ITestResult testResult) {
     Class<?> realClass = testResult.getTestClass().getRealClass();
     Method testMethod = testResult.getMethod().getMethod();
@@ -111,7 +125,7 @@ public class ScreenshotOnFailureListener extends AbstractTestListener {
     String imagePath = concat(output(), separator, imageName);
     try {
       output.createIfNecessary();
-      screenshotTaker.saveDesktopAsPng(imagePath);
+      screenshotTaker.saveDesktopAsPngInBackground(imagePath);
     } catch (Exception e) {
       logger.log(SEVERE, e.getMessage(), e);
       return null;
@@ -14,12 +14,16 @@
  */
 package org.fest.swing.core;
 
+import static org.fest.swing.metrics.Metrics.startTiming;
+import static org.fest.swing.metrics.Metrics.stopTiming;
+import static org.fest.swing.metrics.Operation.DELAY_BETWEEN_EVENTS;
 import static org.fest.swing.timing.Pause.pause;
 
 import java.awt.AWTEvent;
 import java.awt.Component;
 import java.awt.EventQueue;
 import java.awt.Toolkit;
+import java.util.List;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -55,7 +59,28 @@ class AWTEventPoster {
     if (eventQueue != null) {
       eventQueue.postEvent(event);
     }
+    pauseBetweenEvents();
+  }
+
+  // Post the given events, in order, to the corresponding event queue for the given component, pausing only once.
+  void postEvents(@Nullable Component c, @Nonnull List<? extends AWTEvent> events) {
+    if (events.isEmpty()) {
+      return;
+    }
+    EventQueue eventQueue = eventQueueFor(c);
+    for (AWTEvent event : events) {
+      inputState.update(event);
+      if (eventQueue != null) {
+        eventQueue.postEvent(event);
+      }
+    }
+    pauseBetweenEvents();
+  }
+
+  private void pauseBetweenEvents() {
+    long start = startTiming();
     pause(settings.delayBetweenEvents());
+    stopTiming(DELAY_BETWEEN_EVENTS, start);
   }
 
   /* Usually only needed when dealing with Applets. */
@@ -15,9 +15,13 @@
 package org.fest.swing.core;
 
 import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.swing.core.ComponentIndex.createIndex;
 import static org.fest.swing.edt.GuiActionRunner.execute;
 import static org.fest.swing.format.Formatting.format;
 import static org.fest.swing.hierarchy.NewHierarchy.ignoreExistingComponents;
+import static org.fest.swing.metrics.Metrics.startTiming;
+import static org.fest.swing.metrics.Metrics.stopTiming;
+import static org.fest.swing.metrics.Operation.COMPONENT_LOOKUP;
 import static org.fest.util.Preconditions.checkNotNull;
 import static org.fest.util.Strings.concat;
 import static org.fest.util.SystemProperties.lineSeparator;
@@ -38,6 +42,7 @@ import org.fest.swing.exception.ComponentLookupException;
 import org.fest.swing.hierarchy.ComponentHierarchy;
 import org.fest.swing.hierarchy.ExistingHierarchy;
 import org.fest.swing.hierarchy.SingleComponentHierarchy;
+import org.fest.swing.util.ToolkitProvider;
 
 /**
  * Default implementation of {@link ComponentFinder}.
@@ -52,6 +57,7 @@ public final class BasicComponentFinder implements ComponentFinder {
   private final Settings settings;
 
   private final FinderDelegate finderDelegate = new FinderDelegate();
+  private ComponentIndex index;
 
   private boolean includeHierarchyInComponentLookupException;
 
@@ -295,7 +301,7 @@ public final class BasicComponentFinder implements ComponentFinder {
 
   @RunsInEDT
   private @Nonnull Component find(@Nonnull ComponentHierarchy h, @Nonnull ComponentMatcher m) {
-    Collection<Component> found = finderDelegate.find(h, m);
+    Collection<Component> found = findAll(h, m);
     if (found.isEmpty()) {
       throw componentNotFound(h, m);
     }
@@ -373,19 +379,19 @@ public final class BasicComponentFinder implements ComponentFinder {
   /** {@inheritDoc} */
   @Override
   public @Nonnull Collection<Component> findAll(@Nonnull ComponentMatcher m) {
-    return finderDelegate.find(hierarchy, m);
+    return findAll(hierarchy, m);
   }
 
   /** {@inheritDoc} */
   @Override
   public @Nonnull Collection<Component> findAll(@Nonnull Container root, @Nonnull ComponentMatcher m) {
-    return finderDelegate.find(hierarchy(root), m);
+    return findAll(hierarchy(root), m);
   }
 
   /** {@inheritDoc} */
   @Override
   public @Nonnull <T extends Component> Collection<T> findAll(@Nonnull GenericTypeMatcher<T> m) {
-    return finderDelegate.find(hierarchy, m);
+    return findAll(hierarchy, m);
   }
 
   /** {@inheritDoc} */
@@ -393,7 +399,54 @@ public final class BasicComponentFinder implements ComponentFinder {
   public @Nonnull <T extends Component> Collection<T> findAll(
       @Nonnull Container root, @Nonnull GenericTypeMatcher<T> m) {
     ComponentHierarchy h = hierarchy(root);
-    return finderDelegate.find(h, m);
+    return findAll(h, m);
+  }
+
+  @RunsInEDT
+  private @Nonnull <T extends Component> Collection<T> findAll(@Nonnull ComponentHierarchy h,
+      @Nonnull GenericTypeMatcher<T> m) {
+    long start = startTiming();
+    try {
+      if (useIndex(m)) {
+        Collection<Component> found = index().find(h, m);
+        if (!found.isEmpty()) {
+          return FinderDelegate.cast(found, m.supportedType());
+        }
+      }
+      return finderDelegate.find(h, m);
+    } finally {
+      stopTiming(COMPONENT_LOOKUP, start);
+    }
+  }
+
+  // The index is used only if it finds at least one Component, falling back to a hierarchy walk otherwise. Since the
+  // index contains every Component reachable from the roots of the hierarchy, a non-empty result is complete: looking
+  // up a single Component still fails if more than one Component matches.
+  @RunsInEDT
+  private @Nonnull Collection<Component> findAll(@Nonnull ComponentHierarchy h, @Nonnull ComponentMatcher m) {
+    long start = startTiming();
+    try {
+      if (useIndex(m)) {
+        Collection<Component> found = index().find(h, m);
+        if (!found.isEmpty()) {
+          return found;
+        }
+      }
+      return finderDelegate.find(h, m);
+    } finally {
+      stopTiming(COMPONENT_LOOKUP, start);
+    }
+  }
+
+  private boolean useIndex(@Nonnull ComponentMatcher m) {
+    return settings != null && settings.indexComponentLookups() && ComponentIndex.supports(m);
+  }
+
+  private synchronized @Nonnull ComponentIndex index() {
+    if (index == null) {
+      index = createIndex(ToolkitProvider.instance().defaultToolkit());
+    }
+    return index;
   }
 
   /**
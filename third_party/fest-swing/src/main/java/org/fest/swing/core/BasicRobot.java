@@ -21,6 +21,7 @@ import static java.awt.event.KeyEvent.CHAR_UNDEFINED;
 import static java.awt.event.KeyEvent.KEY_TYPED;
 import static java.awt.event.KeyEvent.VK_UNDEFINED;
 import static java.awt.event.WindowEvent.WINDOW_CLOSING;
+import static java.lang.Character.isISOControl;
 import static java.lang.System.currentTimeMillis;
 import static javax.swing.SwingUtilities.getWindowAncestor;
 import static javax.swing.SwingUtilities.isEventDispatchThread;
@@ -31,6 +32,8 @@ import static org.fest.swing.core.ComponentIsFocusableQuery.isFocusable;
 import static org.fest.swing.core.ComponentRequestFocusTask.giveFocusTo;
 import static org.fest.swing.core.FocusOwnerFinder.focusOwner;
 import static org.fest.swing.core.FocusOwnerFinder.inEdtFocusOwner;
+import static org.fest.swing.core.IdleWaitOutcome.IDLE;
+import static org.fest.swing.core.IdleWaitOutcome.TIMED_OUT;
 import static org.fest.swing.core.InputModifiers.unify;
 import static org.fest.swing.core.MouseButton.LEFT_BUTTON;
 import static org.fest.swing.core.MouseButton.RIGHT_BUTTON;
@@ -42,6 +45,11 @@ import static org.fest.swing.format.Formatting.format;
 import static org.fest.swing.format.Formatting.inEdtFormat;
 import static org.fest.swing.hierarchy.NewHierarchy.ignoreExistingComponents;
 import static org.fest.swing.keystroke.KeyStrokeMap.keyStrokeFor;
+import static org.fest.swing.metrics.Metrics.startTiming;
+import static org.fest.swing.metrics.Metrics.stopTiming;
+import static org.fest.swing.metrics.Operation.EVENT_POSTING_DELAY;
+import static org.fest.swing.metrics.Operation.IDLE_WAIT;
+import static org.fest.swing.metrics.Operation.IDLE_WAIT_TIMEOUT;
 import static org.fest.swing.query.ComponentShowingQuery.isShowing;
 import static org.fest.swing.timing.Pause.pause;
 import static org.fest.swing.util.Modifiers.keysFor;
@@ -49,6 +57,7 @@ import static org.fest.swing.util.Modifiers.updateModifierWithKeyCode;
 import static org.fest.swing.util.TimeoutWatch.startWatchWithTimeoutOf;
 import static org.fest.util.Lists.newArrayList;
 import static org.fest.util.Preconditions.checkNotNull;
+import static org.fest.util.Sets.newLinkedHashSet;
 import static org.fest.util.Strings.concat;
 
 import java.applet.Applet;
@@ -64,6 +73,8 @@ import java.awt.event.KeyEvent;
 import java.awt.event.WindowEvent;
 import java.util.Collection;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -82,9 +93,11 @@ import org.fest.swing.exception.ComponentLookupException;
 import org.fest.swing.exception.WaitTimedOutError;
 import org.fest.swing.hierarchy.ComponentHierarchy;
 import org.fest.swing.hierarchy.ExistingHierarchy;
+import org.fest.swing.hierarchy.ScopedHierarchy;
 import org.fest.swing.input.InputState;
 import org.fest.swing.lock.ScreenLock;
 import org.fest.swing.monitor.WindowMonitor;
+import org.fest.swing.timing.Condition;
 import org.fest.swing.util.Pair;
 import org.fest.swing.util.TimeoutWatch;
 import org.fest.swing.util.ToolkitProvider;
@@ -119,12 +132,14 @@ public class BasicRobot implements Robot {
   private static InputState inputState = new InputState(toolkit);
 
   private final ComponentHierarchy hierarchy;
+  private final ScopedHierarchy scopedHierarchy;
   private final Object screenLockOwner;
   private final ComponentFinder finder;
   private final Settings settings;
   private final AWTEventPoster eventPoster;
   private final InputEventGenerator eventGenerator;
   private final UnexpectedJOptionPaneFinder unexpectedJOptionPaneFinder;
+  private final EventQueueQuiescenceWaiter quiescenceWaiter = new EventQueueQuiescenceWaiter(toolkit);
 
   /**
    * Creates a new {@link Robot} with a new AWT hierarchy. The created {@code Robot} will not be able to access any
@@ -156,18 +171,63 @@ public class BasicRobot implements Robot {
     return new BasicRobot(null, new ExistingHierarchy());
   }
 
+  /**
+   * <p>
+   * Creates a new {@link Robot} that can be used concurrently with other isolated {@code Robot}s in the same JVM. The
+   * created {@code Robot}:
+   * </p>
+   * <ul>
+   * <li>only has access to the {@code Window}s it shows, the {@code Window}s they own, and the {@code Window}s added to
+   * its {@link ScopedHierarchy}</li>
+   * <li>only waits for the event queues of those {@code Window}s to be idle. This is normally the system event queue,
+   * which is shared with every other {@code Robot}, so events posted by other tests are waited for as well</li>
+   * <li>only disposes those {@code Window}s when cleaned up</li>
+   * <li>does not acquire the {@link ScreenLock} until it generates its first mouse or keyboard event, or changes the
+   * focus</li>
+   * <li>waits until the {@link ScreenLock} is free before showing a {@code Window}, and holds it while doing so</li>
+   * </ul>
+   * 
+   * <p>
+   * Tests using isolated {@code Robot}s can run in parallel until they need the mouse, the keyboard or the focus; from
+   * that point on they run one at a time, like tests using non-isolated {@code Robot}s. {@code Window}s passed to
+   * window fixtures (e.g. {@code new FrameFixture(robot, frame)}) are added to the {@link ScopedHierarchy} of the
+   * {@code Robot}, like the {@code Window}s it shows.
+   * </p>
+   * 
+   * @return the created {@code Robot}.
+   */
+  public static @Nonnull Robot robotWithIsolatedAwtHierarchy() {
+    return new BasicRobot(new ScopedHierarchy());
+  }
+
   private static @Nonnull Object acquireScreenLock() {
     Object screenLockOwner = new Object();
     ScreenLock.instance().acquire(screenLockOwner);
     return screenLockOwner;
   }
 
+  private BasicRobot(@Nonnull ScopedHierarchy hierarchy) {
+    this(new Object(), hierarchy, hierarchy);
+  }
+
   @VisibleForTesting
   BasicRobot(@Nullable Object screenLockOwner, @Nonnull ComponentHierarchy hierarchy) {
+    this(screenLockOwner, hierarchy, null);
+  }
+
+  private BasicRobot(@Nullable Object screenLockOwner, @Nonnull ComponentHierarchy hierarchy,
+      @Nullable ScopedHierarchy scopedHierarchy) {
     this.screenLockOwner = screenLockOwner;
     this.hierarchy = hierarchy;
+    this.scopedHierarchy = scopedHierarchy;
     settings = new Settings();
-    eventGenerator = new RobotEventGenerator(settings);
+    InputEventGenerator robotEventGenerator = new RobotEventGenerator(settings);
+    if (scopedHierarchy != null) {
+      eventGenerator = new ScreenLockingEventGenerator(robotEventGenerator, ScreenLock.instance(),
+          checkNotNull(screenLockOwner));
+    } else {
+      eventGenerator = robotEventGenerator;
+    }
     eventPoster = new AWTEventPoster(toolkit, inputState, windowMonitor, settings);
     finder = new BasicComponentFinder(hierarchy, settings);
     unexpectedJOptionPaneFinder = new UnexpectedJOptionPaneFinder(finder);
@@ -204,6 +264,24 @@ public class BasicRobot implements Robot {
   @RunsInEDT
   @Override
   public void showWindow(@Nonnull final Window w, @Nullable final Dimension size, final boolean pack) {
+    if (scopedHierarchy == null) {
+      doShowWindow(w, size, pack);
+      return;
+    }
+    scopedHierarchy.add(w);
+    // showing a window may activate it, taking the focus away from the windows of a test holding the screen lock
+    boolean acquired = acquireScreenLockIfFree();
+    try {
+      doShowWindow(w, size, pack);
+    } finally {
+      if (acquired) {
+        releaseScreenLock();
+      }
+    }
+  }
+
+  @RunsInEDT
+  private void doShowWindow(@Nonnull final Window w, @Nullable final Dimension size, final boolean pack) {
     EventQueue.invokeLater(new Runnable() {
       @Override
       public void run() {
@@ -285,6 +363,7 @@ public class BasicRobot implements Robot {
     if (currentOwner == target) {
       return;
     }
+    acquireScreenLockIfIsolated();
     FocusMonitor focusMonitor = FocusMonitor.attachTo(target);
     // for pointer focus
     moveMouse(target);
@@ -370,6 +449,32 @@ public class BasicRobot implements Robot {
     }
   }
 
+  /**
+   * Waits until the screen lock is free and acquires it, unless this isolated {@code Robot} already owns it.
+   * 
+   * @return {@code true} if the lock was acquired by this call and should be released by the caller, {@code false}
+   *         otherwise.
+   */
+  private boolean acquireScreenLockIfFree() {
+    ScreenLock screenLock = ScreenLock.instance();
+    Object owner = checkNotNull(screenLockOwner);
+    if (screenLock.acquiredBy(owner)) {
+      return false;
+    }
+    screenLock.acquire(owner);
+    return true;
+  }
+
+  /**
+   * Acquires the screen lock, if this is an isolated {@code Robot}, until this {@code Robot} is cleaned up. Focus
+   * changes affect every window on the screen, like mouse and keyboard input.
+   */
+  private void acquireScreenLockIfIsolated() {
+    if (scopedHierarchy != null) {
+      ScreenLock.instance().acquire(checkNotNull(screenLockOwner));
+    }
+  }
+
   private void releaseScreenLock() {
     ScreenLock screenLock = ScreenLock.instance();
     if (screenLock.acquiredBy(screenLockOwner)) {
@@ -670,12 +775,42 @@ public class BasicRobot implements Robot {
     if (text.isEmpty()) {
       return;
     }
-    for (char character : text.toCharArray()) {
-      type(character);
+    if (settings.bulkTextEntry()) {
+      postText(text);
+    } else {
+      for (char character : text.toCharArray()) {
+        type(character);
+      }
     }
     waitForIdle(); // Wait for all the key events triggered by type to be processed
   }
 
+  // Posts the given text as KEY_TYPED events, in batches. Only control characters that can be typed as key strokes
+  // (e.g. new line or tab) are typed, since text components handle them as key presses.
+  @RunsInEDT
+  private void postText(@Nonnull String text) {
+    // Allow any pending robot events to complete; otherwise we might stuff the typed events before previous
+    // robot-generated events are posted.
+    waitForIdle();
+    Component focus = focusOwner();
+    List<KeyEvent> keyEvents = newArrayList();
+    for (char character : text.toCharArray()) {
+      KeyStroke keyStroke = keyStrokeFor(character);
+      if (keyStroke == null || !isISOControl(character)) {
+        if (focus != null) {
+          keyEvents.add(keyEventFor(focus, character));
+        }
+        continue;
+      }
+      eventPoster.postEvents(focus, keyEvents);
+      keyEvents.clear();
+      keyPressAndRelease(keyStroke.getKeyCode(), keyStroke.getModifiers());
+      waitForIdle(); // typing a control character may transfer focus
+      focus = focusOwner();
+    }
+    eventPoster.postEvents(focus, keyEvents);
+  }
+
   /** {@inheritDoc} */
   @RunsInEDT
   @Override
@@ -761,6 +896,14 @@ public class BasicRobot implements Robot {
   @Override
   public void waitForIdle() {
     waitIfNecessary();
+    if (scopedHierarchy != null) {
+      waitForIdleQueuesOf(scopedHierarchy);
+      return;
+    }
+    if (settings.trackEventQueueQuiescence()) {
+      waitForIdleLiveQueues();
+      return;
+    }
     Collection<EventQueue> queues = windowMonitor.allEventQueues();
     if (queues.size() == 1) {
       waitForIdle(checkNotNull(toolkit.getSystemEventQueue()));
@@ -772,41 +915,105 @@ public class BasicRobot implements Robot {
     }
   }
 
+  // skips the queues of disposed windows: posting events to them resurrects them. The live queues are found in the
+  // same pass through the EDT that finds the system event queue idle.
+  private void waitForIdleLiveQueues() {
+    EventQueue systemEventQueue = checkNotNull(toolkit.getSystemEventQueue());
+    final List<EventQueue> liveQueues = new CopyOnWriteArrayList<EventQueue>();
+    waitForIdle(systemEventQueue, new Runnable() {
+      @RunsInEDT
+      @Override
+      public void run() {
+        liveQueues.addAll(windowMonitor.liveEventQueues());
+      }
+    });
+    for (EventQueue queue : liveQueues) {
+      if (queue != systemEventQueue) {
+        waitForIdle(checkNotNull(queue));
+      }
+    }
+  }
+
+  // only wait for the queues of the windows this robot has access to, not for the ones of other tests' windows
+  private void waitForIdleQueuesOf(@Nonnull ScopedHierarchy hierarchy) {
+    Set<EventQueue> queues = newLinkedHashSet();
+    for (Window w : hierarchy.windows()) {
+      EventQueue queue = windowMonitor.eventQueueFor(w);
+      if (queue != null) {
+        queues.add(queue);
+      }
+    }
+    if (queues.isEmpty()) {
+      queues.add(checkNotNull(toolkit.getSystemEventQueue()));
+    }
+    for (EventQueue queue : queues) {
+      waitForIdle(checkNotNull(queue));
+    }
+  }
+
   private void waitIfNecessary() {
     int delayBetweenEvents = settings.delayBetweenEvents();
     int eventPostingDelay = settings.eventPostingDelay();
     if (eventPostingDelay > delayBetweenEvents) {
+      long start = startTiming();
       pause(eventPostingDelay - delayBetweenEvents);
+      stopTiming(EVENT_POSTING_DELAY, start);
     }
   }
 
   private void waitForIdle(@Nonnull EventQueue eventQueue) {
+    waitForIdle(eventQueue, null);
+  }
+
+  // whenIdle, if any, is run in the EDT once the given queue is idle
+  private void waitForIdle(@Nonnull EventQueue eventQueue, @Nullable final Runnable whenIdle) {
     if (EventQueue.isDispatchThread()) {
       throw new IllegalThreadStateException("Cannot call method from the event dispatcher thread");
     }
+    long start = startTiming();
+    IdleWaitOutcome outcome;
+    if (settings.trackEventQueueQuiescence()) {
+      outcome = quiescenceWaiter.waitForIdle(eventQueue, settings.idleTimeout(), whenIdle);
+    } else {
+      outcome = pollUntilIdle(eventQueue);
+      if (whenIdle != null && outcome == IDLE) {
+        execute(new GuiTask() {
+          @Override
+          protected void executeInEDT() {
+            whenIdle.run();
+          }
+        });
+      }
+    }
+    stopTiming(IDLE_WAIT, start);
+    if (outcome == TIMED_OUT) {
+      stopTiming(IDLE_WAIT_TIMEOUT, start);
+    }
+  }
+
+  private @Nonnull IdleWaitOutcome pollUntilIdle(@Nonnull EventQueue eventQueue) {
     // Abbot: as of Java 1.3.1, robot.waitForIdle only waits for the last event on the queue at the time of this
     // invocation to be processed. We need better than that. Make sure the given event queue is empty when this method
     // returns.
     // We always post at least one idle event to allow any current event dispatch processing to finish.
     long start = currentTimeMillis();
-    int count = 0;
     do {
       // Timed out waiting for idle
       int idleTimeout = settings.idleTimeout();
       if (postInvocationEvent(eventQueue, idleTimeout)) {
-        break;
+        return TIMED_OUT;
       }
       // Timed out waiting for idle event queue
       if (currentTimeMillis() - start > idleTimeout) {
-        break;
+        return TIMED_OUT;
       }
-      ++count;
       // Force a yield
       pause();
       // Abbot: this does not detect invocation events (i.e. what gets posted with EventQueue.invokeLater), so if
       // someone is repeatedly posting one, we might get stuck. Not too worried, since if a Runnable keeps calling
       // invokeLater on itself, *nothing* else gets much chance to run, so it seems to be a bad programming practice.
     } while (eventQueue.peekEvent() != null);
+    return IDLE;
   }
 
   // Indicates whether we timed out waiting for the invocation to run
@@ -908,14 +1115,28 @@ public class BasicRobot implements Robot {
     if (popup != null || isEventDispatchThread()) {
       return popup;
     }
-    TimeoutWatch watch = startWatchWithTimeoutOf(POPUP_TIMEOUT);
-    while ((popup = activePopupMenu()) == null) {
-      if (watch.isTimeOut()) {
-        break;
-      }
-      pause(100);
+    ActivePopupMenuCondition condition = new ActivePopupMenuCondition();
+    try {
+      pause(condition, POPUP_TIMEOUT);
+    } catch (WaitTimedOutError e) {
+      return null;
+    }
+    return condition.found;
+  }
+
+  private class ActivePopupMenuCondition extends Condition {
+    JPopupMenu found;
+
+    ActivePopupMenuCondition() {
+      super("active popup menu to show up");
+    }
+
+    @RunsInEDT
+    @Override
+    public boolean test() {
+      found = activePopupMenu();
+      return found != null;
     }
-    return popup;
   }
 
   @RunsInEDT
@@ -0,0 +1,362 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.core;
+
+import static java.awt.AWTEvent.CONTAINER_EVENT_MASK;
+import static java.awt.AWTEvent.WINDOW_EVENT_MASK;
+import static java.awt.event.ContainerEvent.COMPONENT_ADDED;
+import static java.awt.event.WindowEvent.WINDOW_OPENED;
+import static java.util.Collections.sort;
+import static org.fest.swing.edt.GuiActionRunner.execute;
+import static org.fest.swing.listener.WeakEventListener.attachAsWeakEventListener;
+import static org.fest.util.Lists.newArrayList;
+import static org.fest.util.Maps.newHashMap;
+import static org.fest.util.Maps.newWeakHashMap;
+import static org.fest.util.Preconditions.checkNotNull;
+import static org.fest.util.Sets.newLinkedHashSet;
+
+import java.awt.AWTEvent;
+import java.awt.Component;
+import java.awt.Container;
+import java.awt.Toolkit;
+import java.awt.event.AWTEventListener;
+import java.awt.event.ContainerEvent;
+import java.awt.event.WindowEvent;
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.lang.ref.WeakReference;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import org.fest.swing.annotation.RunsInCurrentThread;
+import org.fest.swing.annotation.RunsInEDT;
+import org.fest.swing.edt.GuiQuery;
+import org.fest.swing.edt.GuiTask;
+import org.fest.swing.hierarchy.ComponentHierarchy;
+import org.fest.swing.hierarchy.ExistingHierarchy;
+
+/**
+ * <p>
+ * Index of AWT and Swing {@code Component}s, keyed by name and by type. The index is populated with the
+ * {@code Component}s existing at creation time, and kept up-to-date by listening to {@code Component}s being added to
+ * {@code Container}s, {@code Window}s being opened and {@code Component}s being renamed.
+ * </p>
+ *
+ * <p>
+ * Every {@code Component} reachable from a root {@code Window} is indexed, including {@code Window}s that have not been
+ * opened yet: the roots of the hierarchy to search that are not indexed yet (e.g. an empty {@code Frame} created after
+ * this index) are indexed at the start of each lookup. For this reason, the result of a lookup is as complete as the
+ * result of a hierarchy walk.
+ * </p>
+ *
+ * <p>
+ * The index only provides candidates: a candidate is returned by a lookup only if it is still reachable from the roots
+ * of the {@link ComponentHierarchy} to search and it matches the given {@link ComponentMatcher}. Found
+ * {@code Component}s are returned in the same order as the ones found by {@link FinderDelegate}.
+ * </p>
+ *
+ * @author Alex Ruiz
+ */
+final class ComponentIndex implements AWTEventListener {
+  private static final long EVENT_MASK = CONTAINER_EVENT_MASK | WINDOW_EVENT_MASK;
+  private static final String NAME_PROPERTY = "name";
+
+  private final Map<Component, Boolean> indexed = newWeakHashMap();
+  private final Map<String, Map<Component, Boolean>> byName = newHashMap();
+  private final Map<Class<?>, Map<Component, Boolean>> byType = newWeakHashMap();
+
+  private final ComponentHierarchy allComponents = new ExistingHierarchy();
+  private final PropertyChangeListener nameListener = new NameChangeListener(this);
+
+  /**
+   * Creates a new {@link ComponentIndex}, containing all the AWT and Swing {@code Component}s currently reachable from
+   * the root {@code Window}s, and attaches it to the given {@code Toolkit}.
+   *
+   * @param toolkit the {@code Toolkit} to listen to.
+   * @return the created index.
+   */
+  @RunsInEDT
+  static @Nonnull ComponentIndex createIndex(@Nonnull Toolkit toolkit) {
+    final ComponentIndex index = new ComponentIndex();
+    attachAsWeakEventListener(toolkit, index, EVENT_MASK);
+    execute(new GuiTask() {
+      @Override
+      protected void executeInEDT() {
+        index.indexAll();
+      }
+    });
+    return index;
+  }
+
+  private ComponentIndex() {}
+
+  @RunsInCurrentThread
+  private void indexAll() {
+    for (Container root : allComponents.roots()) {
+      index(checkNotNull(root));
+    }
+  }
+
+  @RunsInEDT
+  @Override
+  public void eventDispatched(AWTEvent e) {
+    if (e instanceof ContainerEvent && e.getID() == COMPONENT_ADDED) {
+      ContainerEvent containerEvent = (ContainerEvent) e;
+      Container container = containerEvent.getContainer();
+      if (container != null) {
+        indexAncestors(container);
+      }
+      Component child = containerEvent.getChild();
+      if (child != null) {
+        index(child);
+      }
+      return;
+    }
+    if (e instanceof WindowEvent && e.getID() == WINDOW_OPENED) {
+      index(((WindowEvent) e).getWindow());
+    }
+  }
+
+  // Containers that were never added to another container (e.g. Windows that have not been opened yet, or pop-up menus
+  // created lazily) do not generate any event of their own: index them when a Component is added to them.
+  @RunsInCurrentThread
+  private synchronized void indexAncestors(@Nonnull Component c) {
+    Component current = c;
+    while (current != null && !indexed.containsKey(current)) {
+      indexOnly(current);
+      current = allComponents.parentOf(current);
+    }
+  }
+
+  // Windows that were created after this index and never had a Component added to them (e.g. an empty Frame that has
+  // not been opened) do not generate any event: index them when they are found among the roots to search.
+  @RunsInCurrentThread
+  private synchronized void indexRoots(@Nonnull List<Container> roots) {
+    for (Container root : roots) {
+      if (root != null && !indexed.containsKey(root)) {
+        index(root);
+      }
+    }
+  }
+
+  @RunsInCurrentThread
+  private synchronized void index(@Nonnull Component c) {
+    if (!indexed.containsKey(c)) {
+      indexOnly(c);
+    }
+    for (Component child : allComponents.childrenOf(c)) {
+      if (child != null) {
+        index(child);
+      }
+    }
+  }
+
+  private void indexOnly(@Nonnull Component c) {
+    indexed.put(c, true);
+    c.addPropertyChangeListener(NAME_PROPERTY, nameListener);
+    addByName(c, c.getName());
+    addTo(byType, c.getClass(), c);
+  }
+
+  @RunsInCurrentThread
+  private synchronized void nameChanged(@Nonnull Component c, @Nullable Object oldName, @Nullable Object newName) {
+    if (!indexed.containsKey(c)) {
+      return;
+    }
+    if (oldName != null) {
+      Map<Component, Boolean> components = byName.get(oldName);
+      if (components != null) {
+        components.remove(c);
+      }
+    }
+    addByName(c, (String) newName);
+  }
+
+  private void addByName(@Nonnull Component c, @Nullable String name) {
+    if (name != null) {
+      addTo(byName, name, c);
+    }
+  }
+
+  private static <K> void addTo(@Nonnull Map<K, Map<Component, Boolean>> index, @Nonnull K key, @Nonnull Component c) {
+    Map<Component, Boolean> components = index.get(key);
+    if (components == null) {
+      components = newWeakHashMap();
+      index.put(key, components);
+    }
+    components.put(c, true);
+  }
+
+  /**
+   * Indicates whether this index can narrow down the {@code Component}s to evaluate with the given matcher.
+   *
+   * @param m the matcher to use in a lookup.
+   * @return {@code true} if the matcher looks up {@code Component}s by name or by a type more specific than
+   *         {@code Component}, {@code false} otherwise.
+   */
+  static boolean supports(@Nonnull ComponentMatcher m) {
+    return m instanceof NameMatcher || m instanceof TypeMatcher || isSpecificGenericTypeMatcher(m);
+  }
+
+  private static boolean isSpecificGenericTypeMatcher(@Nonnull ComponentMatcher m) {
+    return m instanceof GenericTypeMatcher && !Component.class.equals(((GenericTypeMatcher<?>) m).supportedType());
+  }
+
+  /**
+   * Returns the indexed AWT and Swing {@code Component}s, reachable from the roots of the given
+   * {@link ComponentHierarchy}, that match the given {@link ComponentMatcher}. This method makes a single round trip to
+   * the event dispatch thread (EDT.)
+   *
+   * @param h the hierarchy to search.
+   * @param m the matcher to use. It must be supported by this index.
+   * @return the matching {@code Component}s, in hierarchy order.
+   * @see #supports(ComponentMatcher)
+   */
+  @RunsInEDT
+  @Nonnull Collection<Component> find(final @Nonnull ComponentHierarchy h, final @Nonnull ComponentMatcher m) {
+    Collection<Component> found = execute(new GuiQuery<Collection<Component>>() {
+      @Override
+      protected Collection<Component> executeInEDT() {
+        return findInCurrentThread(h, m);
+      }
+    });
+    return checkNotNull(found);
+  }
+
+  @RunsInCurrentThread
+  private @Nonnull Collection<Component> findInCurrentThread(@Nonnull ComponentHierarchy h,
+      @Nonnull ComponentMatcher m) {
+    List<Container> roots = newArrayList(h.roots());
+    indexRoots(roots);
+    final Map<Component, List<Integer>> paths = newHashMap();
+    for (Component c : candidatesFor(m)) {
+      if (!m.matches(c)) {
+        continue;
+      }
+      List<Integer> path = pathOf(c, h, roots);
+      if (path != null) {
+        paths.put(c, path);
+      }
+    }
+    List<Component> found = newArrayList(paths.keySet());
+    sort(found, new Comparator<Component>() {
+      @Override
+      public int compare(Component c1, Component c2) {
+        return compareInHierarchyOrder(paths.get(c1), paths.get(c2));
+      }
+    });
+    return newLinkedHashSet(found.toArray(new Component[found.size()]));
+  }
+
+  @RunsInCurrentThread
+  private synchronized @Nonnull Collection<Component> candidatesFor(@Nonnull ComponentMatcher m) {
+    if (m instanceof NameMatcher) {
+      return candidates(byName.get(((NameMatcher) m).name()));
+    }
+    if (m instanceof TypeMatcher) {
+      return candidatesOfType(((TypeMatcher) m).type());
+    }
+    if (m instanceof GenericTypeMatcher) {
+      return candidatesOfType(((GenericTypeMatcher<?>) m).supportedType());
+    }
+    throw new IllegalArgumentException(String.format("The matcher %s is not supported by the index", m));
+  }
+
+  private @Nonnull Collection<Component> candidatesOfType(@Nonnull Class<?> type) {
+    List<Component> candidates = newArrayList();
+    for (Map.Entry<Class<?>, Map<Component, Boolean>> entry : byType.entrySet()) {
+      if (type.isAssignableFrom(entry.getKey())) {
+        candidates.addAll(candidates(entry.getValue()));
+      }
+    }
+    return candidates;
+  }
+
+  private static @Nonnull Collection<Component> candidates(@Nullable Map<Component, Boolean> components) {
+    if (components == null) {
+      return newArrayList();
+    }
+    return newArrayList(components.keySet());
+  }
+
+  // Returns the position of each ancestor of the given component among its siblings, starting at the root, or null if
+  // the component is not reachable from the roots of the hierarchy.
+  @RunsInCurrentThread
+  private static @Nullable List<Integer> pathOf(@Nonnull Component c, @Nonnull ComponentHierarchy h,
+      @Nonnull List<Container> roots) {
+    LinkedList<Integer> path = new LinkedList<Integer>();
+    Component current = c;
+    while (current != null) {
+      int rootIndex = roots.indexOf(current);
+      if (rootIndex >= 0) {
+        path.addFirst(rootIndex);
+        return path;
+      }
+      Container parent = h.parentOf(current);
+      if (parent == null) {
+        return null;
+      }
+      int childIndex = newArrayList(h.childrenOf(parent)).indexOf(current);
+      if (childIndex < 0) {
+        return null;
+      }
+      path.addFirst(childIndex);
+      current = parent;
+    }
+    return null;
+  }
+
+  // Hierarchy walks visit children before their parents.
+  private static int compareInHierarchyOrder(@Nonnull List<Integer> path1, @Nonnull List<Integer> path2) {
+    int commonLength = Math.min(path1.size(), path2.size());
+    for (int i = 0; i < commonLength; i++) {
+      int result = path1.get(i).compareTo(path2.get(i));
+      if (result != 0) {
+        return result;
+      }
+    }
+    return path2.size() - path1.size();
+  }
+
+  private static class NameChangeListener implements PropertyChangeListener {
+    private final WeakReference<ComponentIndex> indexReference;
+
+    NameChangeListener(@Nonnull ComponentIndex index) {
+      indexReference = new WeakReference<ComponentIndex>(index);
+    }
+
+    @RunsInEDT
+    @Override
+    public void propertyChange(PropertyChangeEvent e) {
+      ComponentIndex index = indexReference.get();
+      Object source = e.getSource();
+      if (index == null) {
+        if (source instanceof Component) {
+          ((Component) source).removePropertyChangeListener(NAME_PROPERTY, this);
+        }
+        return;
+      }
+      if (source instanceof Component) {
+        index.nameChanged((Component) source, e.getOldValue(), e.getNewValue());
+      }
+    }
+  }
+}
@@ -0,0 +1,113 @@
+/*
+ * Created on Oct 18, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.core;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.fest.swing.core.IdleWaitOutcome.IDLE;
+import static org.fest.swing.core.IdleWaitOutcome.INTERRUPTED;
+import static org.fest.swing.core.IdleWaitOutcome.TIMED_OUT;
+
+import java.awt.EventQueue;
+import java.awt.Toolkit;
+import java.awt.event.InvocationEvent;
+import java.util.concurrent.CountDownLatch;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import org.fest.swing.annotation.RunsInEDT;
+
+/**
+ * <p>
+ * Waits for an AWT event queue to be idle, by tracking its pending events from the event dispatch thread (EDT.)
+ * </p>
+ * 
+ * <p>
+ * A single {@code InvocationEvent} is posted to the queue. When dispatched, it checks whether the queue has any pending
+ * events: if it does, the {@code InvocationEvent} re-posts itself at the end of the queue; otherwise the waiting thread
+ * is released immediately. The waiting thread does not sleep or poll the queue.
+ * </p>
+ * 
+ * @author Alex Ruiz
+ */
+final class EventQueueQuiescenceWaiter {
+  private final Toolkit toolkit;
+
+  EventQueueQuiescenceWaiter(@Nonnull Toolkit toolkit) {
+    this.toolkit = toolkit;
+  }
+
+  @Nonnull IdleWaitOutcome waitForIdle(@Nonnull EventQueue eventQueue, long timeout) {
+    return waitForIdle(eventQueue, timeout, null);
+  }
+
+  /**
+   * Waits for the given queue to be idle and, if given, runs a task in the event dispatch thread (EDT) in the same pass
+   * that finds the queue idle, without a round trip of its own to the EDT.
+   *
+   * @param eventQueue the queue to wait for.
+   * @param timeout the maximum time to wait, in milliseconds.
+   * @param whenIdle the task to run in the EDT once the queue is idle. It is not run if the wait times out.
+   * @return the outcome of the wait.
+   */
+  @Nonnull IdleWaitOutcome waitForIdle(@Nonnull EventQueue eventQueue, long timeout, @Nullable Runnable whenIdle) {
+    QuiescenceCheck check = new QuiescenceCheck(eventQueue, whenIdle);
+    check.post();
+    try {
+      return check.idle.await(timeout, MILLISECONDS) ? IDLE : TIMED_OUT;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return INTERRUPTED;
+    } finally {
+      check.cancelled = true;
+    }
+  }
+
+  private class QuiescenceCheck implements Runnable {
+    final CountDownLatch idle = new CountDownLatch(1);
+    private final EventQueue eventQueue;
+    private final Runnable whenIdle;
+
+    volatile boolean cancelled;
+
+    QuiescenceCheck(@Nonnull EventQueue eventQueue, @Nullable Runnable whenIdle) {
+      this.eventQueue = eventQueue;
+      this.whenIdle = whenIdle;
+    }
+
+    void post() {
+      eventQueue.postEvent(new InvocationEvent(toolkit, this));
+    }
+
+    @RunsInEDT
+    @Override
+    public void run() {
+      if (cancelled) {
+        return;
+      }
+      if (eventQueue.peekEvent() == null) {
+        try {
+          if (whenIdle != null) {
+            whenIdle.run();
+          }
+        } finally {
+          idle.countDown();
+        }
+        return;
+      }
+      post();
+    }
+  }
+}
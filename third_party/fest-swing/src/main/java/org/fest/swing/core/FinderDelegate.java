@@ -24,100 +24,86 @@ import java.util.Set;
 
 import javax.annotation.Nonnull;
 
+import org.fest.swing.annotation.RunsInCurrentThread;
 import org.fest.swing.annotation.RunsInEDT;
 import org.fest.swing.edt.GuiQuery;
 import org.fest.swing.hierarchy.ComponentHierarchy;
 
 /**
  * Finds all the AWT and Swing {@code Components} in a {@link ComponentHierarchy} that match the search criteria
- * specified in a {@link ComponentMatcher}.
+ * specified in a {@link ComponentMatcher}. The whole hierarchy is traversed and matched in a single query in the event
+ * dispatch thread (EDT), instead of querying the children and evaluating the matcher of each {@code Component} in
+ * separate EDT round trips.
  * 
  * @author Alex Ruiz
  */
 final class FinderDelegate {
   @RunsInEDT
-  @Nonnull Collection<Component> find(@Nonnull ComponentHierarchy h, @Nonnull ComponentMatcher m) {
-    Set<Component> found = newLinkedHashSet();
-    for (Component c : rootsOf(h)) {
-      find(h, m, checkNotNull(c), found);
-    }
-    return found;
-  }
-
-  @RunsInEDT
-  private void find(@Nonnull ComponentHierarchy h, @Nonnull ComponentMatcher m, @Nonnull Component root,
-      @Nonnull Set<Component> found) {
-    for (Component c : childrenOfComponent(root, h)) {
-      find(h, m, checkNotNull(c), found);
-    }
-    if (isMatching(root, m)) {
-      found.add(root);
-    }
-  }
-
-  @RunsInEDT
-  private static @Nonnull Collection<Component> childrenOfComponent(
-      final @Nonnull Component c, final @Nonnull ComponentHierarchy h) {
-    Collection<Component> children = execute(new GuiQuery<Collection<Component>>() {
+  @Nonnull Collection<Component> find(final @Nonnull ComponentHierarchy h, final @Nonnull ComponentMatcher m) {
+    Collection<Component> found = execute(new GuiQuery<Collection<Component>>() {
       @Override
       protected Collection<Component> executeInEDT() {
-        return h.childrenOf(c);
+        return findInCurrentThread(h, m);
       }
     });
-    return checkNotNull(children);
+    return checkNotNull(found);
   }
 
   @RunsInEDT
-  private static boolean isMatching(@Nonnull final Component c, @Nonnull final ComponentMatcher m) {
-    Boolean matching = execute(new GuiQuery<Boolean>() {
+  @Nonnull <T extends Component> Collection<T> find(final @Nonnull ComponentHierarchy h,
+      final @Nonnull GenericTypeMatcher<T> m) {
+    Collection<T> found = execute(new GuiQuery<Collection<T>>() {
       @Override
-      protected Boolean executeInEDT() {
-        return m.matches(c);
+      protected Collection<T> executeInEDT() {
+        return cast(findInCurrentThread(h, m), m.supportedType());
       }
     });
-    return checkNotNull(matching);
+    return checkNotNull(found);
   }
 
-  @RunsInEDT
-  @Nonnull <T extends Component> Collection<T> find(@Nonnull ComponentHierarchy h, @Nonnull GenericTypeMatcher<T> m) {
-    Set<T> found = newLinkedHashSet();
-    for (Component c : rootsOf(h)) {
+  /**
+   * <p>
+   * Traverses the given {@link ComponentHierarchy}, returning all the AWT and Swing {@code Components} that match the
+   * given {@link ComponentMatcher}, in the same order they are found when walking the hierarchy (children before their
+   * parents.)
+   * </p>
+   * 
+   * <p>
+   * <b>Note:</b> This method is accessed in the current executing thread. Such thread may or may not be the event
+   * dispatch thread (EDT.) Client code must call this method from the EDT.
+   * </p>
+   * 
+   * @param h the hierarchy to traverse.
+   * @param m the matcher to use.
+   * @return the matching {@code Component}s.
+   */
+  @RunsInCurrentThread
+  static @Nonnull Collection<Component> findInCurrentThread(@Nonnull ComponentHierarchy h,
+      @Nonnull ComponentMatcher m) {
+    Set<Component> found = newLinkedHashSet();
+    for (Component c : h.roots()) {
       find(h, m, checkNotNull(c), found);
     }
     return found;
   }
 
-  @RunsInEDT
-  private static @Nonnull Collection<? extends Component> rootsOf(final @Nonnull ComponentHierarchy h) {
-    Collection<? extends Component> roots = execute(new GuiQuery<Collection<? extends Component>>() {
-      @Override
-      protected Collection<? extends Component> executeInEDT() {
-        return h.roots();
-      }
-    });
-    return checkNotNull(roots);
-  }
-
-  @RunsInEDT
-  private <T extends Component> void find(@Nonnull ComponentHierarchy h, @Nonnull GenericTypeMatcher<T> m,
-      @Nonnull Component root, Set<T> found) {
-    for (Component c : childrenOfComponent(root, h)) {
+  @RunsInCurrentThread
+  private static void find(@Nonnull ComponentHierarchy h, @Nonnull ComponentMatcher m, @Nonnull Component root,
+      @Nonnull Set<Component> found) {
+    for (Component c : h.childrenOf(root)) {
       find(h, m, checkNotNull(c), found);
     }
-    if (isMatching(root, m)) {
-      found.add(m.supportedType().cast(root));
+    if (m.matches(root)) {
+      found.add(root);
     }
   }
 
-  @RunsInEDT
-  private static <T extends Component> boolean isMatching(final @Nonnull Component c,
-      final @Nonnull GenericTypeMatcher<T> m) {
-    Boolean matching = execute(new GuiQuery<Boolean>() {
-      @Override
-      protected Boolean executeInEDT() {
-        return m.matches(c);
-      }
-    });
-    return checkNotNull(matching);
+  static @Nonnull <T extends Component> Collection<T> cast(@Nonnull Collection<Component> components,
+      @Nonnull Class<T> type) {
+    Set<T> cast = newLinkedHashSet();
+    for (Component c : components) {
+      cast.add(type.cast(c));
+    }
+    return cast;
   }
 }
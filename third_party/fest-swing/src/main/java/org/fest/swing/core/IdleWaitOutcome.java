@@ -0,0 +1,31 @@
+/*
+ * Created on Oct 18, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.core;
+
+/**
+ * Reasons why waiting for an AWT event queue to be idle ended.
+ * 
+ * @author Alex Ruiz
+ */
+enum IdleWaitOutcome {
+  /** The event queue did not have any pending events. */
+  IDLE,
+
+  /** The idle timeout (see {@link Settings#idleTimeout()}) expired before the event queue was idle. */
+  TIMED_OUT,
+
+  /** The waiting thread was interrupted. */
+  INTERRUPTED
+}
@@ -331,6 +331,7 @@ public interface Robot {
    * {@code Component} that has input focus.
    * 
    * @param text the text to enter.
+   * @see Settings#bulkTextEntry(boolean)
    */
   void enterText(@Nonnull String text);
 
@@ -18,6 +18,10 @@ import static org.fest.swing.awt.AWT.isPointInScreenBoundaries;
 import static org.fest.swing.awt.AWT.translate;
 import static org.fest.swing.exception.ActionFailedException.actionFailure;
 import static org.fest.swing.exception.UnexpectedException.unexpected;
+import static org.fest.swing.metrics.Metrics.startTiming;
+import static org.fest.swing.metrics.Metrics.stopTiming;
+import static org.fest.swing.metrics.Operation.DELAY_BETWEEN_EVENTS;
+import static org.fest.swing.metrics.Operation.ROBOT_INPUT;
 import static org.fest.swing.timing.Pause.pause;
 import static org.fest.swing.util.Platform.isOSX;
 import static org.fest.swing.util.Platform.isWindows;
@@ -88,19 +92,34 @@ class RobotEventGenerator implements InputEventGenerator {
   /** {@inheritDoc} */
   @Override
   public void pressMouse(int buttons) {
-    robot.mousePress(buttons);
+    long start = startTiming();
+    try {
+      robot.mousePress(buttons);
+    } finally {
+      stopTiming(ROBOT_INPUT, start);
+    }
   }
 
   /** {@inheritDoc} */
   @Override
   public void releaseMouse(int buttons) {
-    robot.mouseRelease(buttons);
+    long start = startTiming();
+    try {
+      robot.mouseRelease(buttons);
+    } finally {
+      stopTiming(ROBOT_INPUT, start);
+    }
   }
 
   /** {@inheritDoc} */
   @Override
   public void rotateMouseWheel(int amount) {
-    robot.mouseWheel(amount);
+    long start = startTiming();
+    try {
+      robot.mouseWheel(amount);
+    } finally {
+      stopTiming(ROBOT_INPUT, start);
+    }
   }
 
   /** {@inheritDoc} */
@@ -113,29 +132,44 @@ class RobotEventGenerator implements InputEventGenerator {
   /** {@inheritDoc} */
   @Override
   public void moveMouse(int x, int y) {
-    robot.mouseMove(x, y);
+    long start = startTiming();
+    try {
+      robot.mouseMove(x, y);
+    } finally {
+      stopTiming(ROBOT_INPUT, start);
+    }
   }
 
   /** {@inheritDoc} */
   @Override
   public void pressKey(int keyCode, char keyChar) {
+    long start = startTiming();
     try {
       robot.keyPress(keyCode);
     } catch (IllegalArgumentException e) {
       throw new IllegalArgumentException(String.format("Invalid key code '%d'", keyCode));
+    } finally {
+      stopTiming(ROBOT_INPUT, start);
     }
   }
 
   /** {@inheritDoc} */
   @Override
   public void releaseKey(int keyCode) {
-    robot.keyRelease(keyCode);
+    long start = startTiming();
+    try {
+      robot.keyRelease(keyCode);
+    } finally {
+      stopTiming(ROBOT_INPUT, start);
+    }
     if (!isOSX()) {
       return;
     }
     int delayBetweenEvents = settings.delayBetweenEvents();
     if (KEY_INPUT_DELAY > delayBetweenEvents) {
+      start = startTiming();
       pause(KEY_INPUT_DELAY - delayBetweenEvents);
+      stopTiming(DELAY_BETWEEN_EVENTS, start);
     }
   }
 }
@@ -0,0 +1,104 @@
+/*
+ * Created on Oct 18, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.core;
+
+import java.awt.Component;
+import java.awt.Point;
+
+import javax.annotation.Nonnull;
+
+import org.fest.swing.lock.ScreenLock;
+
+/**
+ * {@link InputEventGenerator} that acquires the {@link ScreenLock} before generating its first OS-level input event,
+ * and keeps it until it is released by its owner. This lets GUI tests that do not use the mouse or the keyboard run
+ * concurrently, while tests that do still take turns.
+ *
+ * @author Alex Ruiz
+ */
+class ScreenLockingEventGenerator implements InputEventGenerator {
+  private final InputEventGenerator delegate;
+  private final ScreenLock screenLock;
+  private final Object screenLockOwner;
+
+  ScreenLockingEventGenerator(@Nonnull InputEventGenerator delegate, @Nonnull ScreenLock screenLock,
+      @Nonnull Object screenLockOwner) {
+    this.delegate = delegate;
+    this.screenLock = screenLock;
+    this.screenLockOwner = screenLockOwner;
+  }
+
+  @Override
+  public void pressMouse(int buttons) {
+    acquireScreenLock();
+    delegate.pressMouse(buttons);
+  }
+
+  @Override
+  public void pressMouse(@Nonnull Component c, @Nonnull Point where, int buttons) {
+    acquireScreenLock();
+    delegate.pressMouse(c, where, buttons);
+  }
+
+  @Override
+  public void pressMouse(@Nonnull Point where, int buttons) {
+    acquireScreenLock();
+    delegate.pressMouse(where, buttons);
+  }
+
+  @Override
+  public void moveMouse(@Nonnull Component c, int x, int y) {
+    acquireScreenLock();
+    delegate.moveMouse(c, x, y);
+  }
+
+  @Override
+  public void moveMouse(int x, int y) {
+    acquireScreenLock();
+    delegate.moveMouse(x, y);
+  }
+
+  @Override
+  public void releaseMouse(int buttons) {
+    // without the lock, this generator has not pressed any button
+    if (screenLock.acquiredBy(screenLockOwner)) {
+      delegate.releaseMouse(buttons);
+    }
+  }
+
+  @Override
+  public void rotateMouseWheel(int amount) {
+    acquireScreenLock();
+    delegate.rotateMouseWheel(amount);
+  }
+
+  @Override
+  public void pressKey(int keyCode, char keyChar) {
+    acquireScreenLock();
+    delegate.pressKey(keyCode, keyChar);
+  }
+
+  @Override
+  public void releaseKey(int keyCode) {
+    // without the lock, this generator has not pressed any key
+    if (screenLock.acquiredBy(screenLockOwner)) {
+      delegate.releaseKey(keyCode);
+    }
+  }
+
+  private void acquireScreenLock() {
+    screenLock.acquire(screenLockOwner);
+  }
+}
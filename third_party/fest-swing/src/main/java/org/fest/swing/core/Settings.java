@@ -42,6 +42,9 @@ public class Settings {
   private int dropDelay;
   private int eventPostingDelay;
   private int idleTimeout;
+  private boolean indexComponentLookups;
+  private boolean trackEventQueueQuiescence;
+  private boolean bulkTextEntry;
 
   private java.awt.Robot robot;
 
@@ -254,6 +257,77 @@ public class Settings {
     this.idleTimeout = valueToUpdate(ms, 0, Integer.MAX_VALUE);
   }
 
+  /**
+   * @return {@code true} if AWT or Swing {@code Component} lookups by name or by type use an index of the
+   *         {@code Component}s in the AWT hierarchy, instead of traversing the whole hierarchy. The default value is
+   *         {@code false}.
+   */
+  public boolean indexComponentLookups() {
+    return indexComponentLookups;
+  }
+
+  /**
+   * Updates whether AWT or Swing {@code Component} lookups by name or by type use an index of the {@code Component}s in
+   * the AWT hierarchy. Lookups that cannot use the index, or that do not find any {@code Component} in it, traverse
+   * the whole hierarchy. The default value is {@code false}.
+   *
+   * @param newValue the new value.
+   */
+  public void indexComponentLookups(boolean newValue) {
+    indexComponentLookups = newValue;
+  }
+
+  /**
+   * @return {@code true} if waiting for an idle AWT event queue tracks the pending events of the queue from the event
+   *         dispatch thread, returning as soon as the queue is empty; {@code false} if it repeatedly posts an event to
+   *         the queue, pausing in between, until the queue is empty. The default value is {@code false}.
+   */
+  public boolean trackEventQueueQuiescence() {
+    return trackEventQueueQuiescence;
+  }
+
+  /**
+   * Updates whether waiting for an idle AWT event queue tracks the pending events of the queue from the event dispatch
+   * thread, instead of repeatedly posting an event to the queue and pausing in between. The default value is
+   * {@code false}.
+   *
+   * @param newValue the new value.
+   */
+  public void trackEventQueueQuiescence(boolean newValue) {
+    trackEventQueueQuiescence = newValue;
+  }
+
+  /**
+   * @return {@code true} if text entered by a {@link Robot} is posted as {@code KEY_TYPED} events directly to the AWT
+   *         event queue of the focused {@code Component}, waiting for idle only once all the characters are posted;
+   *         {@code false} if each character is typed as key strokes generated by the operating system. The default
+   *         value is {@code false}.
+   * @see Robot#enterText(String)
+   */
+  public boolean bulkTextEntry() {
+    return bulkTextEntry;
+  }
+
+  /**
+   * <p>
+   * Updates whether text entered by a {@link Robot} is posted as {@code KEY_TYPED} events directly to the AWT event
+   * queue of the focused {@code Component}, instead of typing each character as key strokes generated by the operating
+   * system. Control characters that can be typed as key strokes (e.g. new line or tab) are still typed that way. The
+   * default value is {@code false}.
+   * </p>
+   *
+   * <p>
+   * Text components process the posted events the same way they process typed characters, but no {@code KEY_PRESSED} or
+   * {@code KEY_RELEASED} events are generated for printable characters.
+   * </p>
+   *
+   * @param newValue the new value.
+   * @see Robot#enterText(String)
+   */
+  public void bulkTextEntry(boolean newValue) {
+    bulkTextEntry = newValue;
+  }
+
   private int valueToUpdate(int value, int min, int max) {
     return max(min, min(max, value));
   }
@@ -16,6 +16,9 @@ package org.fest.swing.driver;
 
 import static org.fest.swing.driver.ModelValueToString.asText;
 import static org.fest.swing.edt.GuiActionRunner.execute;
+import static org.fest.swing.metrics.Metrics.startTiming;
+import static org.fest.swing.metrics.Metrics.stopTiming;
+import static org.fest.swing.metrics.Operation.CELL_RENDERING;
 import static org.fest.util.Preconditions.checkNotNull;
 
 import java.awt.Component;
@@ -99,6 +102,9 @@ public class BasicJComboBoxCellReader implements JComboBoxCellReader {
   private @Nullable Component cellRendererComponent(@Nonnull JComboBox comboBox, int index) {
     Object item = comboBox.getItemAt(index);
     ListCellRenderer renderer = comboBox.getRenderer();
-    return renderer.getListCellRendererComponent(REFERENCE_JLIST, item, index, true, true);
+    long start = startTiming();
+    Component c = renderer.getListCellRendererComponent(REFERENCE_JLIST, item, index, true, true);
+    stopTiming(CELL_RENDERING, start);
+    return c;
   }
 }
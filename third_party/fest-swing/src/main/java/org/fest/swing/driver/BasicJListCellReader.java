@@ -15,6 +15,9 @@
 package org.fest.swing.driver;
 
 import static org.fest.swing.driver.ModelValueToString.asText;
+import static org.fest.swing.metrics.Metrics.startTiming;
+import static org.fest.swing.metrics.Metrics.stopTiming;
+import static org.fest.swing.metrics.Operation.CELL_RENDERING;
 import static org.fest.util.Preconditions.checkNotNull;
 
 import java.awt.Component;
@@ -72,7 +75,9 @@ public class BasicJListCellReader implements JListCellReader {
   @RunsInCurrentThread
   public @Nullable String valueAt(@Nonnull JList list, int index) {
     Object element = list.getModel().getElementAt(index);
+    long start = startTiming();
     Component c = list.getCellRenderer().getListCellRendererComponent(list, element, index, true, true);
+    stopTiming(CELL_RENDERING, start);
     String value = (c != null) ? rendererReader.valueFrom(c) : null;
     if (value != null) {
       return value;
@@ -16,6 +16,9 @@ package org.fest.swing.driver;
 
 import static java.lang.String.valueOf;
 import static org.fest.swing.driver.ModelValueToString.asText;
+import static org.fest.swing.metrics.Metrics.startTiming;
+import static org.fest.swing.metrics.Metrics.stopTiming;
+import static org.fest.swing.metrics.Operation.CELL_RENDERING;
 import static org.fest.util.Preconditions.checkNotNull;
 
 import java.awt.Color;
@@ -174,6 +177,9 @@ public class BasicJTableCellReader implements JTableCellReader {
 
   @RunsInCurrentThread
   private @Nullable Component cellRendererIn(final @Nonnull JTable table, final int row, final int column) {
-    return table.prepareRenderer(table.getCellRenderer(row, column), row, column);
+    long start = startTiming();
+    Component c = table.prepareRenderer(table.getCellRenderer(row, column), row, column);
+    stopTiming(CELL_RENDERING, start);
+    return c;
   }
 }
@@ -14,6 +14,9 @@
  */
 package org.fest.swing.driver;
 
+import static org.fest.swing.metrics.Metrics.startTiming;
+import static org.fest.swing.metrics.Metrics.stopTiming;
+import static org.fest.swing.metrics.Operation.CELL_RENDERING;
 import static org.fest.swing.util.Strings.isDefaultToString;
 import static org.fest.util.Preconditions.checkNotNull;
 
@@ -72,7 +75,9 @@ public class BasicJTreeCellReader implements JTreeCellReader {
   @RunsInCurrentThread
   public @Nullable String valueAt(@Nonnull JTree tree, @Nullable Object modelValue) {
     TreeCellRenderer r = tree.getCellRenderer();
+    long start = startTiming();
     Component c = r.getTreeCellRendererComponent(tree, modelValue, false, false, false, 0, false);
+    stopTiming(CELL_RENDERING, start);
     String value = (c != null) ? rendererReader.valueFrom(c) : null;
     if (value != null) {
       return value;
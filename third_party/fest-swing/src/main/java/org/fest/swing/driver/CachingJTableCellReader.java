@@ -0,0 +1,234 @@
+/*
+ * Created on Oct 18, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.driver;
+
+import static javax.swing.event.TableModelEvent.ALL_COLUMNS;
+import static javax.swing.event.TableModelEvent.HEADER_ROW;
+import static javax.swing.event.TableModelEvent.UPDATE;
+import static org.fest.util.Maps.newHashMap;
+import static org.fest.util.Maps.newWeakHashMap;
+import static org.fest.util.Preconditions.checkNotNull;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.util.Iterator;
+import java.util.Map;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.swing.JTable;
+import javax.swing.event.TableModelEvent;
+import javax.swing.event.TableModelListener;
+import javax.swing.table.TableModel;
+
+import org.fest.swing.annotation.RunsInCurrentThread;
+import org.fest.swing.annotation.RunsInEDT;
+import org.fest.swing.cell.JTableCellReader;
+
+/**
+ * <p>
+ * {@link JTableCellReader} that caches the values read by another {@link JTableCellReader}, avoiding rendering the same
+ * cells over and over when the same {@code JTable} is read several times (e.g. in repeated assertions.)
+ * </p>
+ * 
+ * <p>
+ * Values are cached per {@code JTable}, using model (not view) coordinates, so sorting, filtering or moving columns do
+ * not make them stale. Cached values are discarded when notified by the {@code TableModel} (only the updated rows and
+ * columns, for updates) or when the {@code TableModel} of the {@code JTable} is replaced. Changes that do not notify the
+ * {@code TableModel} listeners (e.g. replacing a cell renderer) are not detected; {@link #clear()} discards all cached
+ * values in such cases. Fonts and colors are not cached.
+ * </p>
+ * 
+ * <p>
+ * This reader registers listeners in each {@code JTable} it reads, and in their {@code TableModel}s. Call
+ * {@link #dispose()} once this reader is no longer used, to remove them.
+ * </p>
+ * 
+ * @author Alex Ruiz
+ */
+public class CachingJTableCellReader implements JTableCellReader {
+  private final JTableCellReader delegate;
+  private final Map<JTable, TableCache> caches = newWeakHashMap();
+
+  /**
+   * Creates a new {@link CachingJTableCellReader}.
+   * 
+   * @param delegate the {@link JTableCellReader} that reads the values of the cells that are not in the cache.
+   * @throws NullPointerException if {@code delegate} is {@code null}.
+   */
+  public CachingJTableCellReader(@Nonnull JTableCellReader delegate) {
+    this.delegate = checkNotNull(delegate);
+  }
+
+  /**
+   * Returns the cached value of the given cell, reading it with the underlying {@link JTableCellReader} if it is not in
+   * the cache.
+   * 
+   * @param table the given {@code JTable}.
+   * @param row the row index of the cell.
+   * @param column the column index of the cell.
+   * @return the value of the given cell.
+   */
+  @Override
+  @RunsInCurrentThread
+  public @Nullable String valueAt(@Nonnull JTable table, int row, int column) {
+    TableCache cache = cacheOf(table);
+    long key = key(table.convertRowIndexToModel(row), table.convertColumnIndexToModel(column));
+    if (cache.values.containsKey(key)) {
+      return cache.values.get(key);
+    }
+    String value = delegate.valueAt(table, row, column);
+    cache.values.put(key, value);
+    return value;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  @RunsInCurrentThread
+  public @Nullable Font fontAt(@Nonnull JTable table, int row, int column) {
+    return delegate.fontAt(table, row, column);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  @RunsInCurrentThread
+  public @Nullable Color backgroundAt(@Nonnull JTable table, int row, int column) {
+    return delegate.backgroundAt(table, row, column);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  @RunsInCurrentThread
+  public @Nullable Color foregroundAt(@Nonnull JTable table, int row, int column) {
+    return delegate.foregroundAt(table, row, column);
+  }
+
+  /**
+   * <p>
+   * Discards all the cached values.
+   * </p>
+   * 
+   * <p>
+   * <b>Note:</b> This method is accessed in the current executing thread. Such thread may or may not be the event
+   * dispatch thread (EDT.) Client code must call this method from the EDT.
+   * </p>
+   */
+  @RunsInCurrentThread
+  public void clear() {
+    for (TableCache cache : caches.values()) {
+      cache.values.clear();
+    }
+  }
+
+  /**
+   * <p>
+   * Discards all the cached values and stops listening to the {@code JTable}s read by this reader and their
+   * {@code TableModel}s. This reader can still be used after being disposed: it starts listening again to the
+   * {@code JTable}s it reads.
+   * </p>
+   * 
+   * <p>
+   * <b>Note:</b> This method is accessed in the current executing thread. Such thread may or may not be the event
+   * dispatch thread (EDT.) Client code must call this method from the EDT.
+   * </p>
+   */
+  @RunsInCurrentThread
+  public void dispose() {
+    for (Map.Entry<JTable, TableCache> entry : caches.entrySet()) {
+      entry.getValue().stopListeningTo(entry.getKey());
+    }
+    caches.clear();
+  }
+
+  @RunsInCurrentThread
+  private @Nonnull TableCache cacheOf(@Nonnull JTable table) {
+    TableCache cache = caches.get(table);
+    if (cache == null) {
+      cache = new TableCache(table);
+      caches.put(table, cache);
+    }
+    return cache;
+  }
+
+  private static long key(int modelRow, int modelColumn) {
+    return ((long) modelRow << 32) | (modelColumn & 0xFFFFFFFFL);
+  }
+
+  private static int rowFrom(long key) {
+    return (int) (key >> 32);
+  }
+
+  private static int columnFrom(long key) {
+    return (int) key;
+  }
+
+  private static class TableCache implements TableModelListener, PropertyChangeListener {
+    final Map<Long, String> values = newHashMap();
+    private TableModel model;
+
+    @RunsInCurrentThread
+    TableCache(@Nonnull JTable table) {
+      table.addPropertyChangeListener("model", this);
+      listenTo(table.getModel());
+    }
+
+    @RunsInCurrentThread
+    void stopListeningTo(@Nonnull JTable table) {
+      table.removePropertyChangeListener("model", this);
+      listenTo(null);
+      values.clear();
+    }
+
+    private void listenTo(@Nullable TableModel newModel) {
+      if (model != null) {
+        model.removeTableModelListener(this);
+      }
+      model = newModel;
+      if (model != null) {
+        model.addTableModelListener(this);
+      }
+    }
+
+    @RunsInEDT
+    @Override
+    public void propertyChange(PropertyChangeEvent e) {
+      listenTo((TableModel) e.getNewValue());
+      values.clear();
+    }
+
+    // rows are shifted when inserted or deleted
+    @RunsInEDT
+    @Override
+    public void tableChanged(TableModelEvent e) {
+      if (e.getType() != UPDATE || e.getFirstRow() == HEADER_ROW || e.getLastRow() == Integer.MAX_VALUE) {
+        values.clear();
+        return;
+      }
+      int firstRow = e.getFirstRow();
+      int lastRow = e.getLastRow();
+      int column = e.getColumn();
+      Iterator<Long> keys = values.keySet().iterator();
+      while (keys.hasNext()) {
+        long key = keys.next();
+        int row = rowFrom(key);
+        if (row >= firstRow && row <= lastRow && (column == ALL_COLUMNS || column == columnFrom(key))) {
+          keys.remove();
+        }
+      }
+    }
+  }
+}
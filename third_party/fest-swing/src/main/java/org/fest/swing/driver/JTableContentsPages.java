@@ -0,0 +1,70 @@
+/*
+ * Created on Oct 18, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.driver;
+
+import static org.fest.swing.driver.JTableContentsQuery.tableContents;
+import static org.fest.swing.driver.JTableRowCountQuery.rowCountOf;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import javax.annotation.Nonnull;
+import javax.swing.JTable;
+
+import org.fest.swing.annotation.RunsInEDT;
+import org.fest.swing.cell.JTableCellReader;
+
+/**
+ * Iterates through the contents of a {@code JTable}, reading a bounded number of rows per query in the event dispatch
+ * thread (EDT.) Other events (e.g. repaints) can be processed in between pages. Rows added or removed while iterating
+ * may be skipped or read more than once.
+ * 
+ * @author Alex Ruiz
+ */
+final class JTableContentsPages implements Iterator<String[][]> {
+  private final JTable table;
+  private final JTableCellReader cellReader;
+  private final int rowsPerPage;
+
+  private int nextRow;
+
+  JTableContentsPages(@Nonnull JTable table, @Nonnull JTableCellReader cellReader, int rowsPerPage) {
+    this.table = table;
+    this.cellReader = cellReader;
+    this.rowsPerPage = rowsPerPage;
+  }
+
+  @RunsInEDT
+  @Override
+  public boolean hasNext() {
+    return nextRow < rowCountOf(table);
+  }
+
+  @RunsInEDT
+  @Override
+  public @Nonnull String[][] next() {
+    String[][] page = tableContents(table, nextRow, rowsPerPage, cellReader);
+    if (page.length == 0) {
+      throw new NoSuchElementException();
+    }
+    nextRow += page.length;
+    return page;
+  }
+
+  @Override
+  public void remove() {
+    throw new UnsupportedOperationException();
+  }
+}
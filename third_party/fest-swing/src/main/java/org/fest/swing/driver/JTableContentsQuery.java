@@ -14,41 +14,53 @@
  */
 package org.fest.swing.driver;
 
+import static java.lang.Math.max;
+import static java.lang.Math.min;
 import static org.fest.swing.edt.GuiActionRunner.execute;
 import static org.fest.util.Preconditions.checkNotNull;
 
 import javax.annotation.Nonnull;
 import javax.swing.JTable;
 
+import org.fest.swing.annotation.RunsInCurrentThread;
 import org.fest.swing.annotation.RunsInEDT;
 import org.fest.swing.cell.JTableCellReader;
 import org.fest.swing.edt.GuiQuery;
 
 /**
- * Returns the contents of a {@code JTable} as a two-dimensional {@code String} array. This query is executed in the
- * event dispatch thread (EDT.)
+ * Returns the contents of a range of rows of a {@code JTable} as a two-dimensional {@code String} array. This query is
+ * executed in the event dispatch thread (EDT.)
  * 
  * @author Alex Ruiz
  */
 final class JTableContentsQuery {
   @RunsInEDT
-  static @Nonnull String[][] tableContents(final @Nonnull JTable table, final @Nonnull JTableCellReader cellReader) {
+  static @Nonnull String[][] tableContents(final @Nonnull JTable table, final int firstRow, final int rowCount,
+      final @Nonnull JTableCellReader cellReader) {
     String[][] result = execute(new GuiQuery<String[][]>() {
       @Override
       protected @Nonnull String[][] executeInEDT() {
-        int rCount = table.getRowCount();
-        int cCount = table.getColumnCount();
-        String[][] contents = new String[rCount][cCount];
-        for (int r = 0; r < rCount; r++) {
-          for (int c = 0; c < cCount; c++) {
-            contents[r][c] = cellReader.valueAt(table, r, c);
-          }
-        }
-        return contents;
+        return contentsOf(table, firstRow, rowCount, cellReader);
       }
     });
     return checkNotNull(result);
   }
 
+  // rows beyond the end of the table are ignored
+  @RunsInCurrentThread
+  private static @Nonnull String[][] contentsOf(@Nonnull JTable table, int firstRow, int rowCount,
+      @Nonnull JTableCellReader cellReader) {
+    int lastRow = (int) min((long) firstRow + rowCount, table.getRowCount());
+    int rCount = max(0, lastRow - firstRow);
+    int cCount = table.getColumnCount();
+    String[][] contents = new String[rCount][cCount];
+    for (int r = 0; r < rCount; r++) {
+      for (int c = 0; c < cCount; c++) {
+        contents[r][c] = cellReader.valueAt(table, firstRow + r, c);
+      }
+    }
+    return contents;
+  }
+
   private JTableContentsQuery() {}
 }
@@ -14,6 +14,8 @@
  */
 package org.fest.swing.driver;
 
+import static java.util.Arrays.asList;
+import static java.util.Arrays.copyOfRange;
 import static org.fest.assertions.Assertions.assertThat;
 import static org.fest.assertions.Fail.fail;
 import static org.fest.swing.core.MouseButton.LEFT_BUTTON;
@@ -32,6 +34,7 @@ import static org.fest.swing.query.JTableColumnByIdentifierQuery.columnIndexById
 import static org.fest.swing.util.ArrayPreconditions.checkNotNullOrEmpty;
 import static org.fest.swing.util.Arrays.equal;
 import static org.fest.util.Arrays.format;
+import static org.fest.util.Lists.newArrayList;
 import static org.fest.util.Preconditions.checkNotNull;
 import static org.fest.util.Preconditions.checkNotNullOrEmpty;
 import static org.fest.util.Strings.concat;
@@ -40,6 +43,8 @@ import java.awt.Color;
 import java.awt.Component;
 import java.awt.Font;
 import java.awt.Point;
+import java.util.Iterator;
+import java.util.List;
 import java.util.regex.Pattern;
 
 import javax.annotation.Nonnegative;
@@ -90,9 +95,12 @@ public class JTableDriver extends JComponentDriver {
   private static final String SELECTION_PROPERTY = "selection";
   private static final String VALUE_PROPERTY = "value";
 
+  private static final int DEFAULT_CONTENTS_PAGE_SIZE = 1000;
+
   private final JTableLocation location = new JTableLocation();
   private JTableCellReader cellReader;
   private JTableCellWriter cellWriter;
+  private int contentsPageSize = DEFAULT_CONTENTS_PAGE_SIZE;
 
   /**
    * Creates a new {@link JTableDriver}.
@@ -171,7 +179,7 @@ public class JTableDriver extends JComponentDriver {
    */
   @RunsInEDT
   public @Nonnull TableCell cell(@Nonnull JTable table, @Nullable String value) {
-    return cellWithValue(table, new StringTextMatcher(value), cellReader());
+    return cellWithValue(table, new StringTextMatcher(value), cellReader(), contentsPageSize);
   }
 
   /**
@@ -186,7 +194,7 @@ public class JTableDriver extends JComponentDriver {
    */
   @RunsInEDT
   public @Nonnull TableCell cell(@Nonnull JTable table, @Nonnull Pattern pattern) {
-    return cellWithValue(table, new PatternTextMatcher(pattern), cellReader());
+    return cellWithValue(table, new PatternTextMatcher(pattern), cellReader(), contentsPageSize);
   }
 
   /**
@@ -527,12 +535,30 @@ public class JTableDriver extends JComponentDriver {
    */
   @RunsInEDT
   public void requireContents(@Nonnull JTable table, @Nonnull String[][] contents) {
-    String[][] actual = contents(table);
-    if (!equal(actual, contents)) {
-      failNotEqual(actual, contents, propertyName(table, CONTENTS_PROPERTY));
+    if (!hasContents(table, contents)) {
+      failNotEqual(contents(table), contents, propertyName(table, CONTENTS_PROPERTY));
     }
   }
 
+  // compares the contents page by page, stopping at the first page that does not match
+  @RunsInEDT
+  private boolean hasContents(@Nonnull JTable table, @Nonnull String[][] contents) {
+    if (rowCountOf(table) != contents.length) {
+      return false;
+    }
+    int firstRow = 0;
+    Iterator<String[][]> pages = contentsInPages(table);
+    while (pages.hasNext()) {
+      String[][] page = pages.next();
+      int lastRow = firstRow + page.length;
+      if (lastRow > contents.length || !equal(page, copyOfRange(contents, firstRow, lastRow))) {
+        return false;
+      }
+      firstRow = lastRow;
+    }
+    return firstRow == contents.length;
+  }
+
   private static void failNotEqual(@Nonnull String[][] actual, @Nonnull String[][] expected,
       @Nullable Description description) {
     String descriptionValue = description != null ? description.value() : null;
@@ -541,8 +567,17 @@ public class JTableDriver extends JComponentDriver {
   }
 
   /**
+   * <p>
    * Returns the {@code String} representation of the cells in the {@code JTable}, using this driver's
    * {@link JTableCellReader}.
+   * </p>
+   *
+   * <p>
+   * <b>Note:</b> The contents are read one page of rows at a time, in a separate query in the event dispatch thread
+   * (EDT) per page (see {@link #contentsPageSize(int)}.) For a {@code JTable} with more rows than the page size, the
+   * returned contents are not an atomic snapshot: if the {@code JTable} changes while its contents are being read, the
+   * result may mix rows read before and after the change.
+   * </p>
    *
    * @param table the target {@code JTable}.
    * @return the {@code String} representation of the cells in the {@code JTable}.
@@ -550,7 +585,67 @@ public class JTableDriver extends JComponentDriver {
    */
   @RunsInEDT
   public @Nonnull String[][] contents(@Nonnull JTable table) {
-    return tableContents(table, cellReader());
+    List<String[]> rows = newArrayList();
+    Iterator<String[][]> pages = contentsInPages(table);
+    while (pages.hasNext()) {
+      rows.addAll(asList(pages.next()));
+    }
+    return rows.toArray(new String[rows.size()][]);
+  }
+
+  /**
+   * Returns the {@code String} representation of the cells in the given range of rows of the {@code JTable}, using this
+   * driver's {@link JTableCellReader}. The cells are read in a single query in the event dispatch thread (EDT.)
+   *
+   * @param table the target {@code JTable}.
+   * @param firstRow the index of the first row to read.
+   * @param rowCount the maximum number of rows to read. Rows beyond the end of the {@code JTable} are ignored.
+   * @return the {@code String} representation of the cells in the given range of rows.
+   * @throws IllegalArgumentException if {@code firstRow} or {@code rowCount} is negative.
+   * @see #replaceCellReader(JTableCellReader)
+   */
+  @RunsInEDT
+  public @Nonnull String[][] contents(@Nonnull JTable table, @Nonnegative int firstRow, @Nonnegative int rowCount) {
+    checkNotNegative(firstRow, "The index of the first row");
+    checkNotNegative(rowCount, "The number of rows");
+    return tableContents(table, firstRow, rowCount, cellReader());
+  }
+
+  /**
+   * Returns an {@code Iterator} that reads the {@code String} representation of the cells in the {@code JTable}, using
+   * this driver's {@link JTableCellReader}. Each page contains at most the number of rows specified in
+   * {@link #contentsPageSize(int)}, and is read in a separate query in the event dispatch thread (EDT), allowing other
+   * events to be processed in between pages.
+   *
+   * @param table the target {@code JTable}.
+   * @return an {@code Iterator} over the pages of contents of the {@code JTable}.
+   * @see #replaceCellReader(JTableCellReader)
+   */
+  public @Nonnull Iterator<String[][]> contentsInPages(@Nonnull JTable table) {
+    return new JTableContentsPages(table, cellReader(), contentsPageSize);
+  }
+
+  /**
+   * Updates the maximum number of rows to read in a single query in the event dispatch thread (EDT) when reading the
+   * contents of a {@code JTable}, or looking up a cell by value. The default value is 1000 rows.
+   *
+   * @param rows the new maximum number of rows.
+   * @throws IllegalArgumentException if the given number of rows is not positive.
+   */
+  public void contentsPageSize(int rows) {
+    if (rows <= 0) {
+      String msg = String.format("The number of rows per page should be greater than zero but was <%d>", rows);
+      throw new IllegalArgumentException(msg);
+    }
+    contentsPageSize = rows;
+  }
+
+  private static void checkNotNegative(int value, @Nonnull String description) {
+    if (value >= 0) {
+      return;
+    }
+    String msg = String.format("%s should not be negative but was <%d>", description, value);
+    throw new IllegalArgumentException(msg);
   }
 
   /**
@@ -14,12 +14,14 @@
  */
 package org.fest.swing.driver;
 
+import static java.lang.Math.min;
 import static org.fest.swing.data.TableCell.row;
 import static org.fest.swing.edt.GuiActionRunner.execute;
 import static org.fest.swing.exception.ActionFailedException.actionFailure;
 import static org.fest.util.Preconditions.checkNotNull;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import javax.swing.JTable;
 
 import org.fest.swing.annotation.RunsInCurrentThread;
@@ -27,41 +29,63 @@ import org.fest.swing.annotation.RunsInEDT;
 import org.fest.swing.cell.JTableCellReader;
 import org.fest.swing.data.TableCell;
 import org.fest.swing.edt.GuiQuery;
+import org.fest.swing.exception.ActionFailedException;
+import org.fest.swing.util.Pair;
 import org.fest.swing.util.TextMatcher;
 
 /**
  * Returns the first cell in a {@code JTable} whose value matches the given one. This query is executed in the event
- * dispatch thread (EDT.)
+ * dispatch thread (EDT), in slices of a bounded number of rows.
  * 
  * @author Alex Ruiz
  */
 final class JTableMatchingCellQuery {
+  /**
+   * Finds the first cell whose value matches the given {@code TextMatcher}, reading at most the given number of rows per
+   * query in the event dispatch thread (EDT.) The search stops at the first matching cell.
+   */
   @RunsInEDT
   static @Nonnull TableCell cellWithValue(final @Nonnull JTable table, final @Nonnull TextMatcher matcher,
-      final @Nonnull JTableCellReader cellReader) {
-    TableCell result = execute(new GuiQuery<TableCell>() {
-      @Override
-      protected TableCell executeInEDT() {
-        return findMatchingCell(table, matcher, cellReader);
+      final @Nonnull JTableCellReader cellReader, final int rowsPerQuery) {
+    int firstRow = 0;
+    while (true) {
+      final int pageStart = firstRow;
+      Pair<TableCell, Boolean> result = execute(new GuiQuery<Pair<TableCell, Boolean>>() {
+        @Override
+        protected Pair<TableCell, Boolean> executeInEDT() {
+          int lastRow = (int) min((long) pageStart + rowsPerQuery, table.getRowCount());
+          TableCell found = findMatchingCell(table, pageStart, lastRow, matcher, cellReader);
+          return Pair.of(found, lastRow < table.getRowCount());
+        }
+      });
+      checkNotNull(result);
+      if (result.first != null) {
+        return result.first;
+      }
+      if (!result.second) {
+        throw cellNotFound(matcher);
       }
-    });
-    return checkNotNull(result);
+      firstRow += rowsPerQuery;
+    }
   }
 
   @RunsInCurrentThread
-  private static @Nonnull TableCell findMatchingCell(@Nonnull JTable table, @Nonnull TextMatcher matcher,
-      @Nonnull JTableCellReader cellReader) {
-    int rCount = table.getRowCount();
+  private static @Nullable TableCell findMatchingCell(@Nonnull JTable table, int firstRow, int lastRow,
+      @Nonnull TextMatcher matcher, @Nonnull JTableCellReader cellReader) {
     int cCount = table.getColumnCount();
-    for (int r = 0; r < rCount; r++) {
+    for (int r = firstRow; r < lastRow; r++) {
       for (int c = 0; c < cCount; c++) {
         if (cellHasValue(table, r, c, matcher, cellReader)) {
           return row(r).column(c);
         }
       }
     }
+    return null;
+  }
+
+  private static @Nonnull ActionFailedException cellNotFound(@Nonnull TextMatcher matcher) {
     String msg = String.format("Unable to find cell matching %s %s", matcher.description(), matcher.formattedValues());
-    throw actionFailure(msg);
+    return actionFailure(msg);
   }
 
   @RunsInCurrentThread
@@ -129,7 +129,8 @@ public class JTextComponentDriver extends JComponentDriver implements TextDispla
   }
 
   /**
-   * Types the given text into the {@code JTextComponent}.
+   * Types the given text into the {@code JTextComponent}. Long texts can be entered faster by enabling
+   * {@link org.fest.swing.core.Settings#bulkTextEntry(boolean) bulk text entry} in the {@code Robot}'s settings.
    *
    * @param textBox the target {@code JTextComponent}.
    * @param text the text to enter.
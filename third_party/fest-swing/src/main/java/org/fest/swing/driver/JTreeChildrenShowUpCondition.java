@@ -14,14 +14,24 @@
  */
 package org.fest.swing.driver;
 
+import static javax.swing.JTree.TREE_MODEL_PROPERTY;
 import static org.fest.swing.driver.JTreeChildOfPathCountQuery.childCount;
+import static org.fest.swing.edt.GuiActionRunner.execute;
 import static org.fest.util.Strings.concat;
 
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import javax.swing.JTree;
+import javax.swing.event.TreeModelEvent;
+import javax.swing.event.TreeModelListener;
+import javax.swing.tree.TreeModel;
 import javax.swing.tree.TreePath;
 
 import org.fest.swing.annotation.RunsInEDT;
+import org.fest.swing.edt.GuiTask;
 import org.fest.swing.timing.Condition;
 
 /**
@@ -33,6 +43,8 @@ class JTreeChildrenShowUpCondition extends Condition {
   private JTree tree;
   private TreePath path;
 
+  private final ModelListener modelListener = new ModelListener();
+
   static @Nonnull JTreeChildrenShowUpCondition untilChildrenShowUp(@Nonnull JTree tree, @Nonnull TreePath path) {
     return new JTreeChildrenShowUpCondition(tree, path);
   }
@@ -48,8 +60,78 @@ class JTreeChildrenShowUpCondition extends Condition {
     return childCount(tree, path) != 0;
   }
 
+  /**
+   * Listens to changes in the model of the {@code JTree}, including the replacement of the model itself.
+   */
+  @RunsInEDT
+  @Override protected void startWaiting() {
+    final JTree target = tree;
+    execute(new GuiTask() {
+      @Override
+      protected void executeInEDT() {
+        target.addPropertyChangeListener(TREE_MODEL_PROPERTY, modelListener);
+        modelListener.listenTo(target.getModel());
+      }
+    });
+  }
+
+  @Override protected boolean isEventAware() {
+    return true;
+  }
+
+  @RunsInEDT
   @Override protected void done() {
+    final JTree target = tree;
+    if (target != null) {
+      execute(new GuiTask() {
+        @Override
+        protected void executeInEDT() {
+          target.removePropertyChangeListener(TREE_MODEL_PROPERTY, modelListener);
+          modelListener.listenTo(null);
+        }
+      });
+    }
     tree = null;
     path = null;
   }
+
+  private class ModelListener implements TreeModelListener, PropertyChangeListener {
+    private TreeModel model;
+
+    void listenTo(@Nullable TreeModel newModel) {
+      if (model != null) {
+        model.removeTreeModelListener(this);
+      }
+      model = newModel;
+      if (model != null) {
+        model.addTreeModelListener(this);
+      }
+    }
+
+    @Override
+    public void propertyChange(PropertyChangeEvent e) {
+      listenTo((TreeModel) e.getNewValue());
+      notifyChanged();
+    }
+
+    @Override
+    public void treeNodesChanged(TreeModelEvent e) {
+      notifyChanged();
+    }
+
+    @Override
+    public void treeNodesInserted(TreeModelEvent e) {
+      notifyChanged();
+    }
+
+    @Override
+    public void treeNodesRemoved(TreeModelEvent e) {
+      notifyChanged();
+    }
+
+    @Override
+    public void treeStructureChanged(TreeModelEvent e) {
+      notifyChanged();
+    }
+  }
 }
\ No newline at end of file
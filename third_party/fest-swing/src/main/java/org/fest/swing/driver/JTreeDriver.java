@@ -23,8 +23,11 @@ import static org.fest.swing.driver.JTreeClearSelectionTask.clearSelectionOf;
 import static org.fest.swing.driver.JTreeEditableQuery.isEditable;
 import static org.fest.swing.driver.JTreeExpandPathTask.expandTreePath;
 import static org.fest.swing.driver.JTreeMatchingPathQuery.matchingPathFor;
+import static org.fest.swing.driver.JTreeMatchingPathQuery.matchingPathWithRootIfInvisible;
+import static org.fest.swing.driver.JTreeMatchingPathQuery.matchingPathsWithRootIfInvisible;
 import static org.fest.swing.driver.JTreeMatchingPathQuery.verifyJTreeIsReadyAndFindMatchingPath;
 import static org.fest.swing.driver.JTreeNodeTextQuery.nodeText;
+import static org.fest.swing.driver.JTreeNodeTextQuery.nodeTexts;
 import static org.fest.swing.driver.JTreeToggleExpandStateTask.toggleExpandState;
 import static org.fest.swing.driver.JTreeVerifySelectionTask.checkHasSelection;
 import static org.fest.swing.driver.JTreeVerifySelectionTask.checkNoSelection;
@@ -447,6 +450,64 @@ public class JTreeDriver extends JComponentDriver {
     toggleCell(tree, checkNotNull(info.second), info.third);
   }
 
+  /**
+   * Expands the given paths, in the given order. Unlike {@link #expandPath(JTree, String)}, this method expands the
+   * paths through {@link JTree#expandPath(TreePath)} instead of simulating a user clicking the toggle control of each
+   * node. All the paths that can be found are looked up and expanded in a single query in the event dispatch thread
+   * (EDT). If a path cannot be found, for example because its nodes are only loaded once their parent is expanded, the
+   * query stops at that path, waits for the tree to be idle and resumes the lookup from that path in a new query. Paths
+   * that are already expanded are left as they are.
+   *
+   * @param tree the target {@code JTree}.
+   * @param paths the paths to expand.
+   * @throws NullPointerException if the array of paths is {@code null}.
+   * @throws IllegalArgumentException if the array of paths is empty.
+   * @throws IllegalStateException if the {@code JTree} is disabled.
+   * @throws IllegalStateException if the {@code JTree} is not showing on the screen.
+   * @throws LocationUnavailableException if any of the given paths cannot be found.
+   */
+  @RunsInEDT
+  public void expandPaths(@Nonnull JTree tree, @Nonnull String[] paths) {
+    checkNotNullOrEmpty(paths);
+    int next = 0;
+    while (next < paths.length) {
+      next = expandMatchingPaths(tree, paths, next, pathFinder());
+      robot.waitForIdle();
+    }
+  }
+
+  /*
+   * Expands the given paths, starting at the given index, until a path cannot be found. Returns the index of that path,
+   * or the number of paths if all of them were expanded. A path that cannot be found right at the starting index is an
+   * error, since every path before it has already been expanded and the tree has been idle since.
+   */
+  @RunsInEDT
+  private static int expandMatchingPaths(final @Nonnull JTree tree, final @Nonnull String[] paths, final int start,
+      final @Nonnull JTreePathFinder pathFinder) {
+    Integer result = execute(new GuiQuery<Integer>() {
+      @Override
+      protected Integer executeInEDT() {
+        checkEnabledAndShowing(tree);
+        for (int i = start; i < paths.length; i++) {
+          TreePath matchingPath;
+          try {
+            matchingPath = matchingPathWithRootIfInvisible(tree, checkNotNull(paths[i]), pathFinder);
+          } catch (LocationUnavailableException e) {
+            if (i == start) {
+              throw e;
+            }
+            return i;
+          }
+          if (!tree.isExpanded(matchingPath)) {
+            tree.expandPath(matchingPath);
+          }
+        }
+        return paths.length;
+      }
+    });
+    return checkNotNull(result);
+  }
+
   /*
    * Returns: 1. if the node is expanded 2. the location of the node 3. the number of mouse clicks to toggle a node
    */
@@ -542,31 +603,39 @@ public class JTreeDriver extends JComponentDriver {
   }
 
   /**
-   * Selects the given paths, expanding parent nodes if necessary.
+   * Selects the given paths, expanding parent nodes if necessary. Unlike {@link #selectPath(JTree, String)}, this
+   * method does not simulate a user clicking each path: all the paths are looked up in a single query in the event
+   * dispatch thread (EDT) and passed to {@link JTree#addSelectionPaths(TreePath[])} after the current selection is
+   * cleared. The last path is then scrolled into view.
    *
    * @param tree the target {@code JTree}.
    * @param paths the paths to select.
-   * @throws NullPointerException if the array of rows is {@code null}.
-   * @throws IllegalArgumentException if the array of rows is empty.
+   * @throws NullPointerException if the array of paths is {@code null}.
+   * @throws IllegalArgumentException if the array of paths is empty.
    * @throws IllegalStateException if the {@code JTree} is disabled.
    * @throws IllegalStateException if the {@code JTree} is not showing on the screen.
    * @throws LocationUnavailableException if any the given path cannot be found.
    */
   @RunsInEDT
-  public void selectPaths(final @Nonnull JTree tree, final @Nonnull String[] paths) {
+  public void selectPaths(@Nonnull JTree tree, @Nonnull String[] paths) {
     checkNotNullOrEmpty(paths);
-    clearSelection(tree);
-    new MultipleSelectionTemplate(robot) {
-      @Override
-      int elementCount() {
-        return paths.length;
-      }
+    selectMatchingPaths(tree, paths, pathFinder());
+    robot.waitForIdle();
+  }
 
+  @RunsInEDT
+  private static void selectMatchingPaths(final @Nonnull JTree tree, final @Nonnull String[] paths,
+      final @Nonnull JTreePathFinder pathFinder) {
+    execute(new GuiTask() {
       @Override
-      void selectElement(int index) {
-        selectPath(tree, checkNotNull(paths[index]));
+      protected void executeInEDT() {
+        checkEnabledAndShowing(tree);
+        TreePath[] matchingPaths = matchingPathsWithRootIfInvisible(tree, paths, pathFinder);
+        tree.clearSelection();
+        tree.addSelectionPaths(matchingPaths);
+        tree.scrollPathToVisible(matchingPaths[matchingPaths.length - 1]);
       }
-    }.multiSelect();
+    });
   }
 
   /**
@@ -979,6 +1048,21 @@ public class JTreeDriver extends JComponentDriver {
     return nodeText(tree, row, location(), pathFinder());
   }
 
+  /**
+   * Returns the {@code String} representation of the nodes at the given paths, reading all of them in a single round
+   * trip to the event dispatch thread (EDT.)
+   *
+   * @param tree the given {@code JTree}.
+   * @param paths the given paths.
+   * @return the {@code String} representation of the nodes at the given paths, in the same order as the paths.
+   * @throws NullPointerException if the array of paths is {@code null}.
+   * @throws LocationUnavailableException if any of the given paths cannot be found.
+   */
+  @RunsInEDT
+  public @Nonnull String[] nodeValues(@Nonnull JTree tree, @Nonnull String[] paths) {
+    return nodeTexts(tree, checkNotNull(paths), pathFinder());
+  }
+
   @VisibleForTesting
   JTreeCellReader cellReader() {
     return pathFinder.cellReader();
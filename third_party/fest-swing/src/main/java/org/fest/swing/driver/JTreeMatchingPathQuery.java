@@ -47,6 +47,16 @@ final class JTreeMatchingPathQuery {
     return checkNotNull(result);
   }
 
+  @RunsInCurrentThread
+  static @Nonnull TreePath[] matchingPathsWithRootIfInvisible(@Nonnull JTree tree, @Nonnull String[] paths,
+      @Nonnull JTreePathFinder pathFinder) {
+    TreePath[] matchingPaths = new TreePath[paths.length];
+    for (int i = 0; i < paths.length; i++) {
+      matchingPaths[i] = matchingPathWithRootIfInvisible(tree, checkNotNull(paths[i]), pathFinder);
+    }
+    return matchingPaths;
+  }
+
   @RunsInCurrentThread
   static @Nonnull TreePath matchingPathWithRootIfInvisible(@Nonnull JTree tree, @Nonnull String path,
       @Nonnull JTreePathFinder pathFinder) {
@@ -15,6 +15,7 @@
 package org.fest.swing.driver;
 
 import static org.fest.swing.driver.JTreeMatchingPathQuery.matchingPathWithRootIfInvisible;
+import static org.fest.swing.driver.JTreeMatchingPathQuery.matchingPathsWithRootIfInvisible;
 import static org.fest.swing.edt.GuiActionRunner.execute;
 import static org.fest.util.Preconditions.checkNotNull;
 
@@ -56,5 +57,21 @@ final class JTreeNodeTextQuery {
     });
   }
 
+  @RunsInEDT
+  static @Nonnull String[] nodeTexts(final @Nonnull JTree tree, final @Nonnull String[] paths,
+      final @Nonnull JTreePathFinder pathFinder) {
+    String[] result = execute(new GuiQuery<String[]>() {
+      @Override protected String[] executeInEDT() {
+        TreePath[] matchingPaths = matchingPathsWithRootIfInvisible(tree, paths, pathFinder);
+        String[] texts = new String[matchingPaths.length];
+        for (int i = 0; i < matchingPaths.length; i++) {
+          texts[i] = pathFinder.cellReader().valueAt(tree, checkNotNull(matchingPaths[i].getLastPathComponent()));
+        }
+        return texts;
+      }
+    });
+    return checkNotNull(result);
+  }
+
   private JTreeNodeTextQuery() {}
 }
@@ -14,10 +14,13 @@
  */
 package org.fest.swing.driver;
 
+import static org.fest.swing.driver.JTreePathIndex.createIndex;
 import static org.fest.util.Lists.newArrayList;
+import static org.fest.util.Maps.newWeakHashMap;
 import static org.fest.util.Strings.quote;
 
 import java.util.List;
+import java.util.Map;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -30,7 +33,8 @@ import org.fest.swing.cell.JTreeCellReader;
 import org.fest.swing.exception.LocationUnavailableException;
 
 /**
- * Lookup of {@code TreePath}s which text matches the given one.
+ * Lookup of {@code TreePath}s which text matches the given one. The children of the nodes in each {@code JTree} are
+ * indexed by text (see {@link JTreePathIndex}), so repeated lookups only read the text of the nodes in the found path.
  * 
  * @author Alex Ruiz
  */
@@ -38,6 +42,7 @@ class JTreePathFinder {
   // TODO TEST
   private static final String SEPARATOR = "/";
 
+  private final Map<JTree, JTreePathIndex> indexes = newWeakHashMap();
   private JTreeCellReader cellReader;
   private String separator;
 
@@ -55,7 +60,6 @@ class JTreePathFinder {
     int pathElementCount = pathStrings.length;
     for (int stringIndex = 0; stringIndex < pathElementCount; stringIndex++) {
       String pathString = pathStrings[stringIndex];
-      Object match = null;
       if (stringIndex == 0 && tree.isRootVisible()) {
         if (!pathString.equals(value(tree, node))) {
           throw pathNotFound(path);
@@ -63,25 +67,30 @@ class JTreePathFinder {
         newPathValues.add(node);
         continue;
       }
-      int childCount = model.getChildCount(node);
-      for (int childIndex = 0; childIndex < childCount; childIndex++) {
-        Object child = model.getChild(node, childIndex);
-        if (pathString.equals(value(tree, child))) {
-          if (match != null) {
-            throw multipleMatchingNodes(pathString, value(tree, node));
-          }
-          match = child;
-        }
-      }
-      if (match == null) {
+      List<Object> matches = indexOf(tree).childrenWithText(tree, node, pathString);
+      if (matches.isEmpty()) {
         throw pathNotFound(path);
       }
+      if (matches.size() > 1) {
+        throw multipleMatchingNodes(pathString, value(tree, node));
+      }
+      Object match = matches.get(0);
       newPathValues.add(match);
       node = match;
     }
     return new TreePath(newPathValues.toArray());
   }
 
+  @RunsInCurrentThread
+  private @Nonnull JTreePathIndex indexOf(@Nonnull JTree tree) {
+    JTreePathIndex index = indexes.get(tree);
+    if (index == null) {
+      index = createIndex(tree, cellReader);
+      indexes.put(tree, index);
+    }
+    return index;
+  }
+
   private @Nonnull LocationUnavailableException pathNotFound(@Nonnull String path) {
     throw new LocationUnavailableException(String.format("Unable to find path %s", quote(path)));
   }
@@ -122,6 +131,7 @@ class JTreePathFinder {
 
   void replaceCellReader(@Nonnull JTreeCellReader newCellReader) {
     cellReader = newCellReader;
+    indexes.clear();
   }
 
   @Nonnull JTreeCellReader cellReader() {
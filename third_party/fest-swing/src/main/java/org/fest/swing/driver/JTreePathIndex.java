@@ -0,0 +1,264 @@
+/*
+ * Created on Oct 18, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.driver;
+
+import static java.util.Collections.emptyList;
+import static org.fest.util.Lists.newArrayList;
+import static org.fest.util.Maps.newHashMap;
+
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.lang.ref.WeakReference;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.swing.JTree;
+import javax.swing.event.TreeModelEvent;
+import javax.swing.event.TreeModelListener;
+import javax.swing.tree.TreeModel;
+import javax.swing.tree.TreePath;
+
+import org.fest.swing.annotation.RunsInCurrentThread;
+import org.fest.swing.annotation.RunsInEDT;
+import org.fest.swing.cell.JTreeCellReader;
+
+/**
+ * <p>
+ * Index of the children of the nodes in a {@code JTree}, keyed by their text (as returned by a {@link JTreeCellReader}.)
+ * The children of a node are read the first time a child of such node is looked up, and discarded when the
+ * {@code TreeModel} of the {@code JTree} reports changes under such node, or when the {@code TreeModel} or the cell
+ * renderer of the {@code JTree} is replaced.
+ * </p>
+ *
+ * <p>
+ * A child found in the index is checked against the {@code TreeModel} before being returned: it must still be a child of
+ * its parent, with the same text, and its parent must have the same number of children it had when indexed. Otherwise,
+ * or if a text is not found or matches more than one child, the children of the node are read again. These checks do
+ * not read the text of the siblings of the found child: if a {@code TreeModel} does not report a change in the text of
+ * a node, a new duplicate of the found child's text is not detected until the index of its parent is discarded.
+ * </p>
+ *
+ * @author Alex Ruiz
+ */
+final class JTreePathIndex {
+  private static final String MODEL_PROPERTY = "model";
+  private static final String CELL_RENDERER_PROPERTY = "cellRenderer";
+
+  private final Map<Object, IndexedChildren> childrenByParent = newHashMap();
+  private final JTreeCellReader cellReader;
+  private final Listener listener;
+  private WeakReference<TreeModel> model;
+
+  /**
+   * Creates a new {@link JTreePathIndex} for the given {@code JTree}.
+   *
+   * @param tree the {@code JTree} to index.
+   * @param cellReader reads the text of the nodes in the {@code JTree}.
+   * @return the created index.
+   */
+  @RunsInCurrentThread
+  static @Nonnull JTreePathIndex createIndex(@Nonnull JTree tree, @Nonnull JTreeCellReader cellReader) {
+    JTreePathIndex index = new JTreePathIndex(cellReader);
+    tree.addPropertyChangeListener(MODEL_PROPERTY, index.listener);
+    tree.addPropertyChangeListener(CELL_RENDERER_PROPERTY, index.listener);
+    index.listenTo(tree.getModel());
+    return index;
+  }
+
+  private JTreePathIndex(@Nonnull JTreeCellReader cellReader) {
+    this.cellReader = cellReader;
+    listener = new Listener(this);
+  }
+
+  @RunsInCurrentThread
+  private void listenTo(@Nullable TreeModel newModel) {
+    TreeModel oldModel = model != null ? model.get() : null;
+    if (oldModel != null) {
+      oldModel.removeTreeModelListener(listener);
+    }
+    model = new WeakReference<TreeModel>(newModel);
+    if (newModel != null) {
+      newModel.addTreeModelListener(listener);
+    }
+  }
+
+  /**
+   * Returns the children of the given node whose text is equal to the given one.
+   *
+   * @param tree the target {@code JTree}.
+   * @param parent the parent node.
+   * @param text the text to match.
+   * @return the matching children of the given node, in model order.
+   */
+  @RunsInCurrentThread
+  @Nonnull List<Object> childrenWithText(@Nonnull JTree tree, @Nonnull Object parent, @Nonnull String text) {
+    IndexedChildren children = indexedChildrenOf(tree, parent);
+    List<Object> matches = children.withText(text);
+    if (matches.size() == 1 && isChildWithText(tree, parent, matches.get(0), text)
+        && tree.getModel().getChildCount(parent) == children.count) {
+      return matches;
+    }
+    childrenByParent.remove(parent);
+    return indexedChildrenOf(tree, parent).withText(text);
+  }
+
+  @RunsInCurrentThread
+  private @Nonnull IndexedChildren indexedChildrenOf(@Nonnull JTree tree, @Nonnull Object parent) {
+    IndexedChildren children = childrenByParent.get(parent);
+    if (children == null) {
+      children = indexChildren(tree, parent);
+      childrenByParent.put(parent, children);
+    }
+    return children;
+  }
+
+  @RunsInCurrentThread
+  private @Nonnull IndexedChildren indexChildren(@Nonnull JTree tree, @Nonnull Object parent) {
+    TreeModel treeModel = tree.getModel();
+    int childCount = treeModel.getChildCount(parent);
+    IndexedChildren children = new IndexedChildren(childCount);
+    for (int childIndex = 0; childIndex < childCount; childIndex++) {
+      Object child = treeModel.getChild(parent, childIndex);
+      String text = cellReader.valueAt(tree, child);
+      if (text == null) {
+        continue;
+      }
+      children.add(text, child);
+    }
+    return children;
+  }
+
+  @RunsInCurrentThread
+  private boolean isChildWithText(@Nonnull JTree tree, @Nonnull Object parent, @Nullable Object child,
+      @Nonnull String text) {
+    return tree.getModel().getIndexOfChild(parent, child) >= 0 && text.equals(cellReader.valueAt(tree, child));
+  }
+
+  @RunsInEDT
+  private void nodesChanged(@Nonnull TreeModelEvent e) {
+    TreePath parentPath = e.getTreePath();
+    if (parentPath == null) {
+      clear();
+      return;
+    }
+    childrenByParent.remove(parentPath.getLastPathComponent());
+  }
+
+  @RunsInEDT
+  private void clear() {
+    childrenByParent.clear();
+  }
+
+  private static class IndexedChildren {
+    final int count;
+    private final Map<String, List<Object>> byText = newHashMap();
+
+    IndexedChildren(int count) {
+      this.count = count;
+    }
+
+    void add(@Nonnull String text, @Nullable Object child) {
+      List<Object> matches = byText.get(text);
+      if (matches == null) {
+        matches = newArrayList();
+        byText.put(text, matches);
+      }
+      matches.add(child);
+    }
+
+    @Nonnull List<Object> withText(@Nonnull String text) {
+      List<Object> matches = byText.get(text);
+      if (matches == null) {
+        return emptyList();
+      }
+      return matches;
+    }
+  }
+
+  private static class Listener implements TreeModelListener, PropertyChangeListener {
+    private final WeakReference<JTreePathIndex> indexReference;
+
+    Listener(@Nonnull JTreePathIndex index) {
+      indexReference = new WeakReference<JTreePathIndex>(index);
+    }
+
+    @RunsInEDT
+    @Override
+    public void treeNodesChanged(TreeModelEvent e) {
+      JTreePathIndex index = indexOrDetachFrom(e.getSource());
+      if (index != null) {
+        index.nodesChanged(e);
+      }
+    }
+
+    @RunsInEDT
+    @Override
+    public void treeNodesInserted(TreeModelEvent e) {
+      JTreePathIndex index = indexOrDetachFrom(e.getSource());
+      if (index != null) {
+        index.nodesChanged(e);
+      }
+    }
+
+    // removed nodes may have indexed descendants
+    @RunsInEDT
+    @Override
+    public void treeNodesRemoved(TreeModelEvent e) {
+      JTreePathIndex index = indexOrDetachFrom(e.getSource());
+      if (index != null) {
+        index.clear();
+      }
+    }
+
+    @RunsInEDT
+    @Override
+    public void treeStructureChanged(TreeModelEvent e) {
+      JTreePathIndex index = indexOrDetachFrom(e.getSource());
+      if (index != null) {
+        index.clear();
+      }
+    }
+
+    @RunsInEDT
+    @Override
+    public void propertyChange(PropertyChangeEvent e) {
+      JTreePathIndex index = indexOrDetachFrom(e.getSource());
+      if (index == null) {
+        return;
+      }
+      if (MODEL_PROPERTY.equals(e.getPropertyName())) {
+        index.listenTo((TreeModel) e.getNewValue());
+      }
+      index.clear();
+    }
+
+    private @Nullable JTreePathIndex indexOrDetachFrom(@Nullable Object source) {
+      JTreePathIndex index = indexReference.get();
+      if (index != null) {
+        return index;
+      }
+      if (source instanceof TreeModel) {
+        ((TreeModel) source).removeTreeModelListener(this);
+      }
+      if (source instanceof JTree) {
+        ((JTree) source).removePropertyChangeListener(MODEL_PROPERTY, this);
+        ((JTree) source).removePropertyChangeListener(CELL_RENDERER_PROPERTY, this);
+      }
+      return null;
+    }
+  }
+}
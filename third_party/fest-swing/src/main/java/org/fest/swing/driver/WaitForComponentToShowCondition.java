@@ -14,6 +14,9 @@
  */
 package org.fest.swing.driver;
 
+import static java.awt.AWTEvent.COMPONENT_EVENT_MASK;
+import static java.awt.AWTEvent.HIERARCHY_EVENT_MASK;
+import static java.awt.AWTEvent.WINDOW_EVENT_MASK;
 import static org.fest.swing.format.Formatting.format;
 import static org.fest.swing.query.ComponentShowingQuery.isShowing;
 import static org.fest.util.Preconditions.checkNotNull;
@@ -59,6 +62,16 @@ public class WaitForComponentToShowCondition extends Condition {
     return isShowing(c);
   }
 
+  /**
+   * Re-evaluates this condition when the {@code Component} (or any of its ancestors) is shown or hidden.
+   *
+   * @return the mask of hierarchy, component and window events.
+   */
+  @Override
+  protected long awtEventMask() {
+    return HIERARCHY_EVENT_MASK | COMPONENT_EVENT_MASK | WINDOW_EVENT_MASK;
+  }
+
   /** ${@inheritDoc} */
   @Override
   protected void done() {
@@ -17,6 +17,9 @@ package org.fest.swing.edt;
 import static javax.swing.SwingUtilities.invokeLater;
 import static javax.swing.SwingUtilities.isEventDispatchThread;
 import static org.fest.swing.exception.UnexpectedException.unexpected;
+import static org.fest.swing.metrics.Metrics.startTiming;
+import static org.fest.swing.metrics.Metrics.stopTiming;
+import static org.fest.swing.metrics.Operation.EDT_ROUND_TRIP;
 import static org.fest.util.Throwables.appendStackTraceInCurentThreadToThrowable;
 
 import java.util.concurrent.CountDownLatch;
@@ -38,6 +41,8 @@ public class GuiActionRunner {
   @GuardedBy("this")
   private static boolean executeInEDT = true;
 
+  private static final ThreadLocal<Boolean> executeInEDTInCurrentThread = new ThreadLocal<Boolean>();
+
   /**
    * Indicates {@link GuiActionRunner} whether instances of {@link GuiQuery} and {@link GuiTask} should be executed in
    * the event dispatch thread (EDT.)
@@ -55,8 +60,36 @@ public class GuiActionRunner {
    *
    * @return {@code true} if GUI actions are executed in the event dispatch thread, {@code false} otherwise.
    */
-  public static synchronized boolean executeInEDT() {
-    return executeInEDT;
+  public static boolean executeInEDT() {
+    Boolean inCurrentThread = executeInEDTInCurrentThread.get();
+    if (inCurrentThread != null) {
+      return inCurrentThread;
+    }
+    synchronized (GuiActionRunner.class) {
+      return executeInEDT;
+    }
+  }
+
+  /**
+   * Indicates {@link GuiActionRunner} whether instances of {@link GuiQuery} and {@link GuiTask} executed from the
+   * current thread should be executed in the event dispatch thread (EDT), overriding {@link #executeInEDT(boolean)} for
+   * the current thread only. Tests running concurrently in different threads can use this method instead of
+   * {@link #executeInEDT(boolean)} to avoid affecting each other.
+   *
+   * @param b if {@code true}, GUI actions executed from the current thread are executed in the event dispatch thread
+   *          (EDT.) If {@code false}, they are executed in the current thread.
+   * @see #clearExecuteInEDTInCurrentThread()
+   */
+  public static void executeInEDTInCurrentThread(boolean b) {
+    executeInEDTInCurrentThread.set(b);
+  }
+
+  /**
+   * Removes the value set for the current thread by {@link #executeInEDTInCurrentThread(boolean)}, going back to the
+   * value set by {@link #executeInEDT(boolean)}.
+   */
+  public static void clearExecuteInEDTInCurrentThread() {
+    executeInEDTInCurrentThread.remove();
   }
 
   /**
@@ -115,6 +148,7 @@ public class GuiActionRunner {
       action.run();
       return;
     }
+    long start = startTiming();
     final CountDownLatch latch = new CountDownLatch(1);
     action.executionNotification(latch);
     invokeLater(action);
@@ -123,6 +157,7 @@ public class GuiActionRunner {
     } catch (InterruptedException e) {
       Thread.currentThread().interrupt();
     }
+    stopTiming(EDT_ROUND_TRIP, start);
   }
 
   private static @Nullable <T> T resultOf(@Nonnull GuiQuery<T> query) {
@@ -29,6 +29,8 @@ import org.fest.swing.driver.ComponentDriver;
 import org.fest.swing.driver.WindowDriver;
 import org.fest.swing.exception.ActionFailedException;
 import org.fest.swing.exception.ComponentLookupException;
+import org.fest.swing.hierarchy.ComponentHierarchy;
+import org.fest.swing.hierarchy.ScopedHierarchy;
 import org.fest.swing.lock.ScreenLock;
 
 /**
@@ -129,6 +131,15 @@ public abstract class AbstractWindowFixture<S, C extends Window, D extends Windo
    */
   public AbstractWindowFixture(@Nonnull Class<S> selfType, @Nonnull Robot robot, @Nonnull C target) {
     super(selfType, robot, target);
+    addToScopeOf(robot, target);
+  }
+
+  // lets an isolated Robot find, wait for and dispose a Window it did not show
+  private static void addToScopeOf(@Nonnull Robot robot, @Nonnull Window w) {
+    ComponentHierarchy hierarchy = robot.hierarchy();
+    if (hierarchy instanceof ScopedHierarchy) {
+      ((ScopedHierarchy) hierarchy).add(w);
+    }
   }
 
   /**
@@ -21,6 +21,7 @@ import static org.fest.util.Strings.concat;
 import java.awt.Color;
 import java.awt.Font;
 import java.awt.Point;
+import java.util.Iterator;
 import java.util.regex.Pattern;
 
 import javax.annotation.Nonnull;
@@ -219,14 +220,57 @@ public class JTableFixture extends AbstractJPopupMenuInvokerFixture<JTableFixtur
   }
 
   /**
-   * @return the {@code String} representation of the cells in the cells in this fixture's {@code JTable}, using this
-   * fixture's {@link JTableCellReader}.
+   * Returns the {@code String} representation of the cells in this fixture's {@code JTable}, using this fixture's
+   * {@link JTableCellReader}. The contents of a {@code JTable} with more rows than {@link #contentsPageSize(int)} are
+   * read one page at a time, and are not an atomic snapshot if the {@code JTable} changes while being read.
+   *
+   * @return the {@code String} representation of the cells in this fixture's {@code JTable}.
    * @see #replaceCellReader(JTableCellReader)
+   * @see #contentsPageSize(int)
    */
   public @Nonnull String[][] contents() {
     return driver().contents(target());
   }
 
+  /**
+   * Returns the {@code String} representation of the cells in the given range of rows of this fixture's
+   * {@code JTable}, using this fixture's {@link JTableCellReader}.
+   *
+   * @param firstRow the index of the first row to read.
+   * @param rowCount the maximum number of rows to read. Rows beyond the end of the {@code JTable} are ignored.
+   * @return the {@code String} representation of the cells in the given range of rows.
+   * @throws IllegalArgumentException if {@code firstRow} or {@code rowCount} is negative.
+   * @see #replaceCellReader(JTableCellReader)
+   */
+  public @Nonnull String[][] contents(int firstRow, int rowCount) {
+    return driver().contents(target(), firstRow, rowCount);
+  }
+
+  /**
+   * Returns an {@code Iterator} that reads the {@code String} representation of the cells in this fixture's
+   * {@code JTable} one page of rows at a time, using this fixture's {@link JTableCellReader}.
+   *
+   * @return an {@code Iterator} over the pages of contents of this fixture's {@code JTable}.
+   * @see #contentsPageSize(int)
+   * @see #replaceCellReader(JTableCellReader)
+   */
+  public @Nonnull Iterator<String[][]> contentsInPages() {
+    return driver().contentsInPages(target());
+  }
+
+  /**
+   * Updates the maximum number of rows to read at once when reading the contents of this fixture's {@code JTable}, or
+   * looking up a cell by value. The default value is 1000 rows.
+   *
+   * @param rows the new maximum number of rows.
+   * @return this fixture.
+   * @throws IllegalArgumentException if the given number of rows is not positive.
+   */
+  public @Nonnull JTableFixture contentsPageSize(int rows) {
+    driver().contentsPageSize(rows);
+    return this;
+  }
+
   /**
    * Returns the number of rows that can be shown in this fixture's {@code JTable}, given unlimited space.
    *
@@ -375,7 +375,8 @@ public class JTreeFixture extends AbstractJPopupMenuInvokerFixture<JTreeFixture,
   }
 
   /**
-   * Select the given paths, expanding parent nodes if necessary.
+   * Select the given paths, expanding parent nodes if necessary. The paths are selected together, without simulating
+   * user input.
    *
    * @param paths the paths to select.
    * @return this fixture.
@@ -460,6 +461,23 @@ public class JTreeFixture extends AbstractJPopupMenuInvokerFixture<JTreeFixture,
     return this;
   }
 
+  /**
+   * Expands the tree nodes at the given paths, in the given order and without simulating user input. Paths that can
+   * already be found are expanded together. A path can include nodes loaded when a previous path is expanded.
+   *
+   * @param paths the paths of the rows to expand.
+   * @return this fixture.
+   * @throws NullPointerException if the array of paths is {@code null}.
+   * @throws IllegalArgumentException if the array of paths is empty.
+   * @throws IllegalStateException if this fixture's {@code JTree} is disabled.
+   * @throws IllegalStateException if this fixture's {@code JTree} is not showing on the screen.
+   * @throws LocationUnavailableException if any of the given paths cannot be found.
+   */
+  public @Nonnull JTreeFixture expandPaths(@Nonnull String... paths) {
+    driver().expandPaths(target(), paths);
+    return this;
+  }
+
   /**
    * Simulates a user collapsing the tree node at the given path.
    *
@@ -655,4 +673,16 @@ public class JTreeFixture extends AbstractJPopupMenuInvokerFixture<JTreeFixture,
   public @Nullable String valueAt(@Nonnull String path) {
     return driver().nodeValue(target(), path);
   }
-}
\ No newline at end of file
+
+  /**
+   * Returns the {@code String} representation of the nodes at the given paths.
+   *
+   * @param paths the given paths.
+   * @return the {@code String} representation of the nodes at the given paths, in the same order as the paths.
+   * @throws NullPointerException if the array of paths is {@code null}.
+   * @throws LocationUnavailableException if any of the given paths cannot be found.
+   */
+  public @Nonnull String[] valuesAt(@Nonnull String... paths) {
+    return driver().nodeValues(target(), paths);
+  }
+}
@@ -0,0 +1,142 @@
+/*
+ * Created on Oct 18, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.hierarchy;
+
+import static java.util.Collections.newSetFromMap;
+import static java.util.Collections.synchronizedSet;
+import static org.fest.util.Lists.newArrayList;
+
+import java.awt.Component;
+import java.awt.Container;
+import java.awt.Window;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.fest.swing.annotation.RunsInCurrentThread;
+import org.fest.util.Maps;
+import org.fest.util.VisibleForTesting;
+
+/**
+ * <p>
+ * A {@link ComponentHierarchy} limited to the root {@code Window}s explicitly added to it (and the {@code Window}s they
+ * own.) Unlike {@link NewHierarchy}, {@code Window}s created by other tests running concurrently in the same JVM are
+ * never part of this hierarchy, regardless of when they were created.
+ * </p>
+ *
+ * <p>
+ * Ownerless dialogs (e.g. a {@code JOptionPane} shown with a {@code null} parent) belong to the shared invisible
+ * {@code Frame} and cannot be attributed to a single hierarchy, so they are not part of any {@code ScopedHierarchy}.
+ * </p>
+ *
+ * @author Alex Ruiz
+ */
+@ThreadSafe
+public class ScopedHierarchy extends ExistingHierarchy {
+  private final Set<Window> windows = synchronizedSet(newSetFromMap(Maps.<Window, Boolean> newWeakHashMap()));
+
+  /**
+   * Creates a new {@link ScopedHierarchy} that does not contain any {@code Window}.
+   */
+  public ScopedHierarchy() {
+    super();
+  }
+
+  @VisibleForTesting
+  ScopedHierarchy(@Nonnull ParentFinder parentFinder, @Nonnull ChildrenFinder childrenFinder) {
+    super(parentFinder, childrenFinder);
+  }
+
+  /**
+   * Adds the given {@code Window} to this hierarchy, making it and all its descendants reachable from this hierarchy.
+   *
+   * @param w the {@code Window} to add.
+   */
+  public void add(@Nonnull Window w) {
+    windows.add(w);
+  }
+
+  /**
+   * @return the root {@code Window}s added to this hierarchy.
+   */
+  public @Nonnull List<Window> windows() {
+    synchronized (windows) {
+      return newArrayList(windows);
+    }
+  }
+
+  /**
+   * @return the root {@code Window}s added to this hierarchy.
+   */
+  @Override
+  public @Nonnull Collection<Container> roots() {
+    List<Container> roots = newArrayList();
+    roots.addAll(windows());
+    return roots;
+  }
+
+  /**
+   * <p>
+   * Returns {@code true} if the given AWT or Swing {@code Component} is, or is a descendant of, a {@code Window} added
+   * to this hierarchy.
+   * </p>
+   *
+   * <p>
+   * <b>Note:</b> This method is accessed in the current executing thread. Such thread may or may not be the event
+   * dispatch thread (EDT.) Client code must call this method from the EDT.
+   * </p>
+   *
+   * @param c the given {@code Component}.
+   * @return {@code true} if the given {@code Component} belongs to this hierarchy, {@code false} otherwise.
+   */
+  @RunsInCurrentThread
+  @Override
+  public boolean contains(@Nonnull Component c) {
+    Component current = c;
+    while (current != null) {
+      if (current instanceof Window && windows.contains(current)) {
+        return true;
+      }
+      current = parentOf(current);
+    }
+    return false;
+  }
+
+  /**
+   * <p>
+   * Disposes the given {@code Window}, but only if it belongs to this hierarchy. If the given {@code Window} is a root
+   * of this hierarchy, it is removed from it.
+   * </p>
+   *
+   * <p>
+   * <b>Note:</b> This method is accessed in the current executing thread. Such thread may or may not be the event
+   * dispatch thread (EDT.) Client code must call this method from the EDT.
+   * </p>
+   *
+   * @param w the {@code Window} to dispose.
+   */
+  @RunsInCurrentThread
+  @Override
+  public void dispose(@Nonnull Window w) {
+    if (!contains(w)) {
+      return;
+    }
+    super.dispose(w);
+    windows.remove(w);
+  }
+}
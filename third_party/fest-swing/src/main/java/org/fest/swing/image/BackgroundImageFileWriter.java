@@ -0,0 +1,249 @@
+/*
+ * Created on Oct 18, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.image;
+
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static java.util.logging.Level.WARNING;
+import static org.fest.util.Files.newFile;
+import static org.fest.util.Strings.concat;
+import static org.fest.util.Strings.quote;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.fest.util.VisibleForTesting;
+
+/**
+ * <p>
+ * Writes images as PNG files in a background thread, so the threads taking screenshots do not wait for the images to be
+ * encoded and saved.
+ * </p>
+ *
+ * <p>
+ * Images are written one at a time, in the order they were submitted. At most {@value #MAX_PENDING_WRITES} images can
+ * be waiting to be written; submitting more images blocks the submitting thread until a pending image is written. An
+ * image with the same contents as the previously written one is not encoded again: the previous file is copied instead.
+ * The shared instance writes all pending images before the JVM shuts down.
+ * </p>
+ *
+ * @author Alex Ruiz
+ */
+@ThreadSafe
+public class BackgroundImageFileWriter {
+  private static final int MAX_PENDING_WRITES = 8;
+  private static final long SHUTDOWN_TIMEOUT_IN_SECONDS = 30;
+  private static final String HASH_ALGORITHM = "SHA-1";
+
+  private static Logger logger = Logger.getLogger(BackgroundImageFileWriter.class.getCanonicalName());
+
+  private final ImageFileWriter writer;
+  private final ExecutorService executor;
+  private final Semaphore pendingWrites;
+
+  @GuardedBy("this")
+  private byte[] lastImageHash;
+  @GuardedBy("this")
+  private String lastFilePath;
+
+  /**
+   * @return the singleton instance of this class.
+   */
+  public static @Nonnull BackgroundImageFileWriter instance() {
+    return BackgroundImageFileWriterHolder.instance;
+  }
+
+  private static class BackgroundImageFileWriterHolder {
+    static BackgroundImageFileWriter instance = createAndFlushOnShutdown();
+
+    private static @Nonnull BackgroundImageFileWriter createAndFlushOnShutdown() {
+      final BackgroundImageFileWriter writer = new BackgroundImageFileWriter(new ImageFileWriter(), MAX_PENDING_WRITES);
+      Runtime.getRuntime().addShutdownHook(new Thread("fest-image-writer-shutdown") {
+        @Override
+        public void run() {
+          writer.shutdown(SHUTDOWN_TIMEOUT_IN_SECONDS, SECONDS);
+        }
+      });
+      return writer;
+    }
+  }
+
+  @VisibleForTesting
+  BackgroundImageFileWriter(@Nonnull ImageFileWriter writer, int maxPendingWrites) {
+    this.writer = writer;
+    pendingWrites = new Semaphore(maxPendingWrites);
+    executor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+      @Override
+      public Thread newThread(Runnable r) {
+        Thread thread = new Thread(r, "fest-image-writer");
+        thread.setDaemon(true);
+        return thread;
+      }
+    });
+  }
+
+  /**
+   * Submits the given image to be written as a PNG file. This method blocks if the maximum number of images waiting to
+   * be written has been reached. If this writer has been shut down, the image is written in the current thread.
+   *
+   * @param image the image to write.
+   * @param filePath the path of the image file to create.
+   * @return the pending result of writing the image: {@code false} if the image could not be saved. Failures are also
+   *         logged.
+   */
+  public @Nonnull Future<Boolean> writeAsPng(final @Nonnull BufferedImage image, final @Nonnull String filePath) {
+    pendingWrites.acquireUninterruptibly();
+    FutureTask<Boolean> task = new FutureTask<Boolean>(new Callable<Boolean>() {
+      @Override
+      public Boolean call() throws IOException {
+        try {
+          return write(image, filePath);
+        } finally {
+          pendingWrites.release();
+        }
+      }
+    });
+    try {
+      executor.execute(task);
+    } catch (RejectedExecutionException e) {
+      task.run();
+    }
+    return task;
+  }
+
+  private synchronized boolean write(@Nonnull BufferedImage image, @Nonnull String filePath) throws IOException {
+    try {
+      byte[] hash = hashOf(image);
+      if (hash != null && Arrays.equals(hash, lastImageHash) && new File(lastFilePath).isFile()) {
+        copy(lastFilePath, filePath);
+        return true;
+      }
+      lastImageHash = null;
+      boolean written = writer.writeAsPng(image, filePath);
+      if (written) {
+        lastImageHash = hash;
+        lastFilePath = filePath;
+      }
+      return written;
+    } catch (IOException e) {
+      logger.log(WARNING, concat("Unable to save image as ", quote(filePath)), e);
+      throw e;
+    } catch (RuntimeException e) {
+      logger.log(WARNING, concat("Unable to save image as ", quote(filePath)), e);
+      throw e;
+    }
+  }
+
+  private static @Nullable byte[] hashOf(@Nonnull BufferedImage image) {
+    MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance(HASH_ALGORITHM);
+    } catch (NoSuchAlgorithmException e) {
+      return null;
+    }
+    int width = image.getWidth();
+    int height = image.getHeight();
+    digest.update(bytesOf(new int[] { width, height }));
+    int[] row = new int[width];
+    for (int y = 0; y < height; y++) {
+      image.getRGB(0, y, width, 1, row, 0, width);
+      digest.update(bytesOf(row));
+    }
+    return digest.digest();
+  }
+
+  private static @Nonnull byte[] bytesOf(@Nonnull int[] values) {
+    byte[] bytes = new byte[values.length * 4];
+    for (int i = 0; i < values.length; i++) {
+      int value = values[i];
+      bytes[i * 4] = (byte) (value >>> 24);
+      bytes[i * 4 + 1] = (byte) (value >>> 16);
+      bytes[i * 4 + 2] = (byte) (value >>> 8);
+      bytes[i * 4 + 3] = (byte) value;
+    }
+    return bytes;
+  }
+
+  private static void copy(@Nonnull String sourcePath, @Nonnull String targetPath) throws IOException {
+    File target = newFile(targetPath);
+    if (target.getCanonicalPath().equals(new File(sourcePath).getCanonicalPath())) {
+      return;
+    }
+    Files.copy(new File(sourcePath).toPath(), target.toPath(), REPLACE_EXISTING);
+  }
+
+  /**
+   * Waits until all the images submitted so far have been written.
+   *
+   * @throws InterruptedException if the current thread is interrupted while waiting.
+   */
+  public void flush() throws InterruptedException {
+    FutureTask<Void> marker = new FutureTask<Void>(new Runnable() {
+      @Override
+      public void run() {}
+    }, null);
+    try {
+      executor.execute(marker);
+    } catch (RejectedExecutionException e) {
+      executor.awaitTermination(Long.MAX_VALUE, MILLISECONDS);
+      return;
+    }
+    try {
+      marker.get();
+    } catch (ExecutionException e) {
+      // the marker does not fail
+    }
+  }
+
+  /**
+   * Stops accepting images to write in the background, and waits until the pending images have been written.
+   * Images submitted after calling this method are written in the submitting thread.
+   *
+   * @param timeout the maximum time to wait.
+   * @param unit the time unit of the {@code timeout} argument.
+   * @return {@code true} if all the pending images were written; {@code false} if the timeout elapsed.
+   */
+  public boolean shutdown(long timeout, @Nonnull TimeUnit unit) {
+    executor.shutdown();
+    try {
+      return executor.awaitTermination(timeout, unit);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+}
@@ -33,6 +33,7 @@ import java.awt.Robot;
 import java.awt.Toolkit;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
+import java.util.concurrent.Future;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -56,6 +57,7 @@ import org.fest.util.VisibleForTesting;
 public class ScreenshotTaker {
   private final Robot robot;
   private final ImageFileWriter writer;
+  private final BackgroundImageFileWriter backgroundWriter;
 
   /**
    * Creates a new {@link ScreenshotTaker}.
@@ -68,7 +70,14 @@ public class ScreenshotTaker {
 
   @VisibleForTesting
   ScreenshotTaker(@Nonnull ImageFileWriter writer, @Nonnull RobotFactory robotFactory) {
+    this(writer, BackgroundImageFileWriter.instance(), robotFactory);
+  }
+
+  @VisibleForTesting
+  ScreenshotTaker(@Nonnull ImageFileWriter writer, @Nonnull BackgroundImageFileWriter backgroundWriter,
+      @Nonnull RobotFactory robotFactory) {
     this.writer = writer;
+    this.backgroundWriter = backgroundWriter;
     try {
       robot = robotFactory.newRobotInPrimaryScreen();
     } catch (AWTException e) {
@@ -92,6 +101,24 @@ public class ScreenshotTaker {
     saveImage(image, imageFilePath);
   }
 
+  /**
+   * Takes a screenshot of the desktop and saves it as a PNG file in a background thread. Only taking the screenshot
+   * happens in the current thread; the image is encoded and saved by a {@link BackgroundImageFileWriter}.
+   *
+   * @param imageFilePath the path of the file to save the screenshot to.
+   * @return the pending result of saving the screenshot: {@code false} if the image could not be saved.
+   * @throws NullPointerException if the given file path is {@code null}.
+   * @throws IllegalArgumentException if the given file path is empty.
+   * @throws IllegalArgumentException if the given file path does not end with ".png".
+   * @see BackgroundImageFileWriter#flush()
+   */
+  public @Nonnull Future<Boolean> saveDesktopAsPngInBackground(@Nonnull String imageFilePath) {
+    checkIsPngFilePath(imageFilePath);
+    BufferedImage image = takeDesktopScreenshot();
+    indicatePointerLocation(image);
+    return backgroundWriter.writeAsPng(image, imageFilePath);
+  }
+
   private static void indicatePointerLocation(BufferedImage image) {
     Point mouse = MouseInfo.getPointerInfo().getLocation();
     Graphics g = image.getGraphics();
@@ -172,15 +199,9 @@ public class ScreenshotTaker {
     });
   }
 
-  // TODO(Alex): Verify that this method really needs to be executed in the EDT.
-  private static @Nonnull BufferedImage takeScreenshot(final @Nonnull Robot robot, final @Nonnull Rectangle r) {
-    BufferedImage result = execute(new GuiQuery<BufferedImage>() {
-      @Override
-      protected @Nullable BufferedImage executeInEDT() {
-        return robot.createScreenCapture(r);
-      }
-    });
-    return checkNotNull(result);
+  // AWT Robots can capture the screen from any thread; there is no need to block the EDT while doing so.
+  private static @Nonnull BufferedImage takeScreenshot(@Nonnull Robot robot, @Nonnull Rectangle r) {
+    return checkNotNull(robot.createScreenCapture(r));
   }
 
   private void showCaretIfPossible(@Nullable JTextComponent textComponent) {
@@ -216,11 +237,7 @@ public class ScreenshotTaker {
    * @throws IORuntimeException if an I/O error prevents the image from being saved as a file.
    */
   public void saveImage(@Nonnull BufferedImage image, @Nonnull String filePath) {
-    Preconditions.checkNotNullOrEmpty(filePath);
-    if (!filePath.endsWith(PNG)) {
-      String format = String.format("The file in path '%s' should have extension 'png'", filePath);
-      throw new IllegalArgumentException(format);
-    }
+    checkIsPngFilePath(filePath);
     try {
       writer.writeAsPng(image, filePath);
     } catch (IOException e) {
@@ -228,4 +245,12 @@ public class ScreenshotTaker {
       throw new IORuntimeException(msg, e);
     }
   }
+
+  private static void checkIsPngFilePath(@Nonnull String filePath) {
+    Preconditions.checkNotNullOrEmpty(filePath);
+    if (!filePath.endsWith(PNG)) {
+      String format = String.format("The file in path '%s' should have extension 'png'", filePath);
+      throw new IllegalArgumentException(format);
+    }
+  }
 }
@@ -0,0 +1,127 @@
+/*
+ * Created on Oct 18, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.metrics;
+
+import static java.lang.Long.numberOfLeadingZeros;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * {@link MetricsRecorder} that keeps, for each {@link Operation}, how many times it was performed, how long it took in
+ * total and a histogram of its durations.
+ *
+ * @author Alex Ruiz
+ */
+@ThreadSafe
+public class HistogramMetricsRecorder implements MetricsRecorder {
+  private final Map<Operation, Histogram> histograms = new EnumMap<Operation, Histogram>(Operation.class);
+
+  /**
+   * Creates a new {@link HistogramMetricsRecorder}.
+   */
+  public HistogramMetricsRecorder() {
+    for (Operation operation : Operation.values()) {
+      histograms.put(operation, new Histogram());
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void record(@Nonnull Operation operation, long durationInNanos) {
+    histograms.get(operation).record(durationInNanos);
+  }
+
+  /**
+   * @return the statistics collected so far.
+   */
+  public @Nonnull MetricsSummary summary() {
+    return summary(false);
+  }
+
+  /**
+   * Returns the statistics collected so far and discards them, so this recorder can be used to measure the next test.
+   *
+   * @return the statistics collected so far.
+   */
+  public @Nonnull MetricsSummary summaryAndReset() {
+    return summary(true);
+  }
+
+  private @Nonnull MetricsSummary summary(boolean reset) {
+    Map<Operation, OperationMetrics> metrics = new EnumMap<Operation, OperationMetrics>(Operation.class);
+    for (Map.Entry<Operation, Histogram> entry : histograms.entrySet()) {
+      Operation operation = entry.getKey();
+      metrics.put(operation, entry.getValue().snapshot(operation, reset));
+    }
+    return new MetricsSummary(metrics);
+  }
+
+  /**
+   * Discards all the statistics collected so far.
+   */
+  public void reset() {
+    summary(true);
+  }
+
+  @ThreadSafe
+  private static class Histogram {
+    @GuardedBy("this")
+    private long count;
+
+    @GuardedBy("this")
+    private long totalTimeInNanos;
+
+    @GuardedBy("this")
+    private long maxTimeInNanos;
+
+    @GuardedBy("this")
+    private final long[] buckets = new long[OperationMetrics.BUCKET_COUNT];
+
+    synchronized void record(long durationInNanos) {
+      long duration = max(durationInNanos, 0);
+      count++;
+      totalTimeInNanos += duration;
+      maxTimeInNanos = max(maxTimeInNanos, duration);
+      buckets[bucketOf(NANOSECONDS.toMicros(duration))]++;
+    }
+
+    // bucket i holds the durations shorter than 2^i microseconds and not shorter than 2^(i-1) microseconds
+    private static int bucketOf(long micros) {
+      int bucket = 64 - numberOfLeadingZeros(micros);
+      return min(bucket, OperationMetrics.BUCKET_COUNT - 1);
+    }
+
+    synchronized @Nonnull OperationMetrics snapshot(@Nonnull Operation operation, boolean reset) {
+      OperationMetrics metrics = new OperationMetrics(operation, count, totalTimeInNanos, maxTimeInNanos, buckets);
+      if (reset) {
+        count = 0;
+        totalTimeInNanos = 0;
+        maxTimeInNanos = 0;
+        for (int i = 0; i < buckets.length; i++) {
+          buckets[i] = 0;
+        }
+      }
+      return metrics;
+    }
+  }
+}
@@ -0,0 +1,109 @@
+/*
+ * Created on Oct 18, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.metrics;
+
+import static java.lang.System.nanoTime;
+import static org.fest.util.Preconditions.checkNotNull;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * <p>
+ * Entry point to the instrumentation of FEST-Swing. By default no {@link MetricsRecorder} is installed, and measuring
+ * an operation costs one volatile read.
+ * </p>
+ *
+ * <p>
+ * Instrumented code measures an operation as follows:
+ *
+ * <pre>
+ * long start = Metrics.startTiming();
+ * try {
+ *   // perform the operation
+ * } finally {
+ *   Metrics.stopTiming(Operation.IDLE_WAIT, start);
+ * }
+ * </pre>
+ * </p>
+ *
+ * @author Alex Ruiz
+ */
+@ThreadSafe
+public final class Metrics {
+  private static final long NOT_TIMED = Long.MIN_VALUE;
+
+  private static volatile MetricsRecorder recorder;
+
+  /**
+   * Installs the given recorder, replacing any previously installed one.
+   *
+   * @param newRecorder the recorder to install.
+   * @throws NullPointerException if the given recorder is {@code null}.
+   */
+  public static void install(@Nonnull MetricsRecorder newRecorder) {
+    recorder = checkNotNull(newRecorder);
+  }
+
+  /**
+   * Removes the installed recorder, if any. Operations are not measured afterwards.
+   */
+  public static void uninstall() {
+    recorder = null;
+  }
+
+  /**
+   * @return the installed recorder, or {@code null} if operations are not being measured.
+   */
+  public static @Nullable MetricsRecorder recorder() {
+    return recorder;
+  }
+
+  /**
+   * @return {@code true} if a recorder is installed; {@code false} otherwise.
+   */
+  public static boolean isEnabled() {
+    return recorder != null;
+  }
+
+  /**
+   * Starts measuring an operation.
+   *
+   * @return the value to pass to {@link #stopTiming(Operation, long)} when the operation ends.
+   */
+  public static long startTiming() {
+    return recorder != null ? nanoTime() : NOT_TIMED;
+  }
+
+  /**
+   * Stops measuring an operation and records its duration. Nothing is recorded if no recorder was installed when the
+   * operation started.
+   *
+   * @param operation the measured operation.
+   * @param start the value returned by {@link #startTiming()} when the operation started.
+   */
+  public static void stopTiming(@Nonnull Operation operation, long start) {
+    if (start == NOT_TIMED) {
+      return;
+    }
+    MetricsRecorder current = recorder;
+    if (current != null) {
+      current.record(operation, nanoTime() - start);
+    }
+  }
+
+  private Metrics() {}
+}
@@ -0,0 +1,33 @@
+/*
+ * Created on Oct 18, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.metrics;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Receives the duration of the operations performed by FEST-Swing. Implementations must be thread-safe, and fast: they
+ * are called from the test thread and the event dispatch thread (EDT) in the middle of the measured operations.
+ *
+ * @author Alex Ruiz
+ */
+public interface MetricsRecorder {
+  /**
+   * Records the duration of an operation.
+   *
+   * @param operation the performed operation.
+   * @param durationInNanos how long the operation took, in nanoseconds.
+   */
+  void record(@Nonnull Operation operation, long durationInNanos);
+}
@@ -0,0 +1,77 @@
+/*
+ * Created on Oct 18, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.metrics;
+
+import static org.fest.util.Preconditions.checkNotNull;
+
+import java.util.Map;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Statistics of all the {@link Operation}s measured by a {@link HistogramMetricsRecorder}, usually during a single test.
+ *
+ * @author Alex Ruiz
+ */
+@Immutable
+public final class MetricsSummary {
+  private final Map<Operation, OperationMetrics> metrics;
+
+  MetricsSummary(@Nonnull Map<Operation, OperationMetrics> metrics) {
+    this.metrics = metrics;
+  }
+
+  /**
+   * Returns the statistics of the given operation.
+   *
+   * @param operation the given operation.
+   * @return the statistics of the given operation.
+   * @throws NullPointerException if the given operation is {@code null}.
+   */
+  public @Nonnull OperationMetrics metricsOf(@Nonnull Operation operation) {
+    return checkNotNull(metrics.get(checkNotNull(operation)));
+  }
+
+  /**
+   * @return {@code true} if no operations were measured; {@code false} otherwise.
+   */
+  public boolean isEmpty() {
+    for (OperationMetrics m : metrics.values()) {
+      if (m.count() > 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * @return the statistics of the operations that were performed at least once, one per line.
+   */
+  @Override
+  public String toString() {
+    StringBuilder b = new StringBuilder();
+    for (OperationMetrics m : metrics.values()) {
+      if (m.count() == 0) {
+        continue;
+      }
+      if (b.length() > 0) {
+        b.append(String.format("%n"));
+      }
+      b.append(m.toString());
+    }
+    return b.toString();
+  }
+}
@@ -0,0 +1,78 @@
+/*
+ * Created on Oct 18, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.metrics;
+
+/**
+ * <p>
+ * Operations measured by FEST-Swing when a {@link MetricsRecorder} is installed (see {@link Metrics#install(MetricsRecorder)}).
+ * </p>
+ *
+ * <p>
+ * Operations may be nested: for example, a {@link #COMPONENT_LOOKUP} includes the {@link #EDT_ROUND_TRIP} it needs, and
+ * an {@link #IDLE_WAIT} may include {@link #PAUSE}s.
+ * </p>
+ *
+ * @author Alex Ruiz
+ */
+public enum Operation {
+  /**
+   * Execution of a {@code GuiQuery} or {@code GuiTask} in the event dispatch thread (EDT) from another thread, including
+   * the wait for its completion.
+   */
+  EDT_ROUND_TRIP,
+
+  /**
+   * Wait for an AWT event queue to be idle.
+   */
+  IDLE_WAIT,
+
+  /**
+   * Wait for an AWT event queue to be idle that ended because the idle timeout expired (see
+   * {@code Settings.idleTimeout()}). Such waits are also recorded as {@link #IDLE_WAIT}.
+   */
+  IDLE_WAIT_TIMEOUT,
+
+  /**
+   * Call to any of the methods in {@code Pause}.
+   */
+  PAUSE,
+
+  /**
+   * Delay after posting AWT events (see {@code Settings.delayBetweenEvents()}). The delay of an AWT {@code Robot} after
+   * generating input is included in {@link #ROBOT_INPUT} instead.
+   */
+  DELAY_BETWEEN_EVENTS,
+
+  /**
+   * Generation of input through an AWT {@code Robot}, including the delay the {@code Robot} waits after generating an
+   * event (see {@code Settings.delayBetweenEvents()}).
+   */
+  ROBOT_INPUT,
+
+  /**
+   * Extra delay before waiting for an idle AWT event queue (see {@code Settings.eventPostingDelay()}).
+   */
+  EVENT_POSTING_DELAY,
+
+  /**
+   * Lookup of components in a component hierarchy.
+   */
+  COMPONENT_LOOKUP,
+
+  /**
+   * Rendering of a cell of a {@code JList}, {@code JTable}, {@code JTree} or {@code JComboBox} to read its value.
+   */
+  CELL_RENDERING
+}
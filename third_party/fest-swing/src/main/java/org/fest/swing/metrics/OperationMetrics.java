@@ -0,0 +1,127 @@
+/*
+ * Created on Oct 18, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.metrics;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.util.Arrays;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * <p>
+ * Statistics of an {@link Operation}: how many times it was performed, how long it took and a histogram of its
+ * durations.
+ * </p>
+ *
+ * <p>
+ * The histogram has {@value #BUCKET_COUNT} buckets with power-of-two bounds: bucket 0 counts the durations shorter than
+ * 1 microsecond, and bucket {@code i} counts the durations shorter than 2<sup>i</sup> microseconds but not shorter
+ * than 2<sup>i-1</sup> microseconds. The last bucket also counts all the longer durations.
+ * </p>
+ *
+ * @author Alex Ruiz
+ */
+@Immutable
+public final class OperationMetrics {
+  /**
+   * The number of buckets in the histogram of durations.
+   */
+  public static final int BUCKET_COUNT = 32;
+
+  private final Operation operation;
+  private final long count;
+  private final long totalTimeInNanos;
+  private final long maxTimeInNanos;
+  private final long[] histogram;
+
+  OperationMetrics(@Nonnull Operation operation, long count, long totalTimeInNanos, long maxTimeInNanos,
+      @Nonnull long[] histogram) {
+    this.operation = operation;
+    this.count = count;
+    this.totalTimeInNanos = totalTimeInNanos;
+    this.maxTimeInNanos = maxTimeInNanos;
+    this.histogram = Arrays.copyOf(histogram, BUCKET_COUNT);
+  }
+
+  /**
+   * @return the measured operation.
+   */
+  public @Nonnull Operation operation() {
+    return operation;
+  }
+
+  /**
+   * @return how many times the operation was performed.
+   */
+  public long count() {
+    return count;
+  }
+
+  /**
+   * @return the total time (in milliseconds) spent in the operation.
+   */
+  public long totalTimeInMillis() {
+    return NANOSECONDS.toMillis(totalTimeInNanos);
+  }
+
+  /**
+   * @return the time (in milliseconds) taken by the longest execution of the operation.
+   */
+  public long maxTimeInMillis() {
+    return NANOSECONDS.toMillis(maxTimeInNanos);
+  }
+
+  /**
+   * @return a copy of the histogram of durations.
+   */
+  public @Nonnull long[] histogram() {
+    return Arrays.copyOf(histogram, BUCKET_COUNT);
+  }
+
+  /**
+   * Returns the upper bound, in microseconds, of the histogram bucket containing the given percentile of the durations.
+   *
+   * @param percentile the percentile, between 0 and 100.
+   * @return the upper bound of the bucket containing the given percentile, or 0 if the operation was not performed.
+   * @throws IllegalArgumentException if the given percentile is not between 0 and 100.
+   */
+  public long percentileInMicros(double percentile) {
+    if (percentile < 0 || percentile > 100) {
+      throw new IllegalArgumentException(String.format("The percentile should be between 0 and 100 but was <%s>",
+          percentile));
+    }
+    if (count == 0) {
+      return 0;
+    }
+    long rank = (long) Math.ceil(count * percentile / 100);
+    long seen = 0;
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      seen += histogram[i];
+      if (seen >= rank && seen > 0) {
+        return 1L << i;
+      }
+    }
+    return 1L << (BUCKET_COUNT - 1);
+  }
+
+  @Override
+  public String toString() {
+    String format = "%s[count=%d, totalTimeInMillis=%d, maxTimeInMillis=%d, p50<=%dus, p99<=%dus]";
+    return String.format(format, operation.name(), count, totalTimeInMillis(), maxTimeInMillis(),
+        percentileInMicros(50), percentileInMicros(99));
+  }
+}
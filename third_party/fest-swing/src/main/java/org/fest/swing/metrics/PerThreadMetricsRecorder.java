@@ -0,0 +1,86 @@
+/*
+ * Created on Oct 18, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.metrics;
+
+import static java.lang.Thread.currentThread;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * <p>
+ * {@link MetricsRecorder} that keeps separate statistics for each thread running a test, so tests running in parallel
+ * do not see (or discard) each other's measurements.
+ * </p>
+ *
+ * <p>
+ * Operations are attributed to the thread that performs them. Operations performed by threads that are not recording,
+ * such as the event dispatch thread (EDT), cannot be traced back to a test: they are attributed to the only recording
+ * thread when there is exactly one (e.g. tests running serially), and discarded otherwise.
+ * </p>
+ *
+ * @author Alex Ruiz
+ */
+@ThreadSafe
+public class PerThreadMetricsRecorder implements MetricsRecorder {
+  private final ConcurrentMap<Thread, HistogramMetricsRecorder> recorders =
+      new ConcurrentHashMap<Thread, HistogramMetricsRecorder>();
+
+  /**
+   * Starts collecting statistics for the current thread, discarding any collected before.
+   */
+  public void startRecording() {
+    recorders.put(currentThread(), new HistogramMetricsRecorder());
+  }
+
+  /**
+   * Stops collecting statistics for the current thread.
+   *
+   * @return the statistics collected for the current thread since {@link #startRecording()} was called.
+   */
+  public @Nonnull MetricsSummary stopRecording() {
+    HistogramMetricsRecorder recorder = recorders.remove(currentThread());
+    if (recorder == null) {
+      recorder = new HistogramMetricsRecorder();
+    }
+    return recorder.summary();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void record(@Nonnull Operation operation, long durationInNanos) {
+    HistogramMetricsRecorder recorder = recorders.get(currentThread());
+    if (recorder == null) {
+      recorder = onlyRecorder();
+    }
+    if (recorder != null) {
+      recorder.record(operation, durationInNanos);
+    }
+  }
+
+  private @Nullable HistogramMetricsRecorder onlyRecorder() {
+    Iterator<HistogramMetricsRecorder> iterator = recorders.values().iterator();
+    if (!iterator.hasNext()) {
+      return null;
+    }
+    HistogramMetricsRecorder recorder = iterator.next();
+    return iterator.hasNext() ? null : recorder;
+  }
+}
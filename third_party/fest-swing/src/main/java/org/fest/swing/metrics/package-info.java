@@ -0,0 +1,21 @@
+/*
+ * Created on Oct 18, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+/**
+ * Instrumentation of the operations where GUI tests usually spend their time, such as round trips to the event dispatch
+ * thread (EDT) or waits for idle AWT event queues.
+ *
+ * @author Alex Ruiz
+ */
+package org.fest.swing.metrics;
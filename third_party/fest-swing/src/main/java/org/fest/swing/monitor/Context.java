@@ -16,6 +16,7 @@ package org.fest.swing.monitor;
 
 import static org.fest.swing.edt.GuiActionRunner.execute;
 import static org.fest.util.Lists.newArrayList;
+import static org.fest.util.Maps.newHashMap;
 import static org.fest.util.Sets.newLinkedHashSet;
 
 import java.awt.Component;
@@ -24,6 +25,7 @@ import java.awt.Frame;
 import java.awt.Toolkit;
 import java.awt.Window;
 import java.util.Collection;
+import java.util.Map;
 import java.util.Set;
 
 import javax.annotation.Nonnull;
@@ -31,6 +33,7 @@ import javax.annotation.Nullable;
 import javax.annotation.concurrent.GuardedBy;
 import javax.annotation.concurrent.ThreadSafe;
 
+import org.fest.swing.annotation.RunsInCurrentThread;
 import org.fest.swing.annotation.RunsInEDT;
 import org.fest.swing.edt.GuiQuery;
 
@@ -144,4 +147,33 @@ class Context {
     }
     return eventQueues;
   }
+
+  /**
+   * <p>
+   * Returns all known event queues that still have at least one displayable (i.e. not disposed) {@code Window} or
+   * {@code Component}. Posting events to the queues of disposed {@code Window}s may resurrect them.
+   * </p>
+   *
+   * <p>
+   * <b>Note:</b> This method is accessed in the current executing thread. Such thread may or may not be the event
+   * dispatch thread (EDT.) Client code must call this method from the EDT.
+   * </p>
+   *
+   * @return all known event queues with displayable {@code Window}s or {@code Component}s.
+   */
+  @RunsInCurrentThread
+  @Nonnull Collection<EventQueue> liveEventQueues() {
+    Map<Component, EventQueue> queuesByComponent = newHashMap();
+    synchronized (lock) {
+      queuesByComponent.putAll(windowEventQueueMapping.queuesByWindow());
+      queuesByComponent.putAll(eventQueueMapping.queuesByComponent());
+    }
+    Set<EventQueue> live = newLinkedHashSet();
+    for (Map.Entry<Component, EventQueue> entry : queuesByComponent.entrySet()) {
+      if (entry.getKey().isDisplayable()) {
+        live.add(entry.getValue());
+      }
+    }
+    return live;
+  }
 }
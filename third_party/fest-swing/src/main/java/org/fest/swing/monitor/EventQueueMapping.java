@@ -14,6 +14,7 @@
  */
 package org.fest.swing.monitor;
 
+import static org.fest.util.Maps.newHashMap;
 import static org.fest.util.Maps.newWeakHashMap;
 import static org.fest.util.Sets.newHashSet;
 
@@ -68,6 +69,18 @@ class EventQueueMapping {
     return eventQueues;
   }
 
+  @Nonnull Map<Component, EventQueue> queuesByComponent() {
+    Map<Component, EventQueue> queuesByComponent = newHashMap();
+    for (Map.Entry<Component, WeakReference<EventQueue>> entry : queueMap.entrySet()) {
+      Component c = entry.getKey();
+      EventQueue queue = queueFrom(entry.getValue());
+      if (c != null && queue != null) {
+        queuesByComponent.put(c, queue);
+      }
+    }
+    return queuesByComponent;
+  }
+
   private @Nullable EventQueue queueFrom(@Nullable WeakReference<EventQueue> reference) {
     if (reference == null) {
       return null;
@@ -16,6 +16,7 @@ package org.fest.swing.monitor;
 
 import static java.lang.Boolean.TRUE;
 import static org.fest.swing.query.ComponentParentQuery.parentOf;
+import static org.fest.util.Maps.newHashMap;
 import static org.fest.util.Maps.newWeakHashMap;
 import static org.fest.util.Sets.newHashSet;
 
@@ -90,4 +91,16 @@ class WindowEventQueueMapping {
   @Nonnull Collection<EventQueue> eventQueues() {
     return queueMap.keySet();
   }
+
+  @Nonnull Map<Window, EventQueue> queuesByWindow() {
+    Map<Window, EventQueue> queuesByWindow = newHashMap();
+    for (Map.Entry<EventQueue, Map<Window, Boolean>> entry : queueMap.entrySet()) {
+      for (Window w : entry.getValue().keySet()) {
+        if (w != null) {
+          queuesByWindow.put(w, entry.getKey());
+        }
+      }
+    }
+    return queuesByWindow;
+  }
 }
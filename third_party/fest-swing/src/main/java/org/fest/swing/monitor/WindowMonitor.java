@@ -126,6 +126,24 @@ public class WindowMonitor {
     return context.allEventQueues();
   }
 
+  /**
+   * <p>
+   * Returns all known event queues that still have displayable (i.e. not disposed) {@code Window}s or
+   * {@code Component}s.
+   * </p>
+   *
+   * <p>
+   * <b>Note:</b> This method is accessed in the current executing thread. Such thread may or may not be the event
+   * dispatch thread (EDT.) Client code must call this method from the EDT.
+   * </p>
+   *
+   * @return all known event queues that still have displayable {@code Window}s or {@code Component}s.
+   */
+  @RunsInCurrentThread
+  public @Nonnull Collection<EventQueue> liveEventQueues() {
+    return context.liveEventQueues();
+  }
+
   /**
    * Return all available root {@code Window}s. A root {@code Window} is one that has a {@code null} parent. Nominally
    * this means a list similar to that returned by {@code Frame.getFrames()}, but in the case of an {@code Applet} may
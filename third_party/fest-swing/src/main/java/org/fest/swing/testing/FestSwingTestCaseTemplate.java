@@ -18,6 +18,7 @@ import javax.annotation.Nonnull;
 
 import org.fest.swing.core.BasicRobot;
 import org.fest.swing.core.Robot;
+import org.fest.swing.edt.GuiActionRunner;
 
 /**
  * Template for test cases that use FEST-Swing.
@@ -34,17 +35,42 @@ public abstract class FestSwingTestCaseTemplate {
   }
 
   /**
-   * Creates this test's {@link Robot} using a new AWT hierarchy.
+   * Creates this test's {@link Robot} using a new AWT hierarchy, or an isolated one if {@link #runsInIsolation()}
+   * returns {@code true}. Isolated tests also execute GUI actions in the event dispatch thread (EDT), regardless of the
+   * value other tests pass to {@link GuiActionRunner#executeInEDT(boolean)}.
    */
   protected final void setUpRobot() {
-    robot = BasicRobot.robotWithNewAwtHierarchy();
+    if (!runsInIsolation()) {
+      robot = BasicRobot.robotWithNewAwtHierarchy();
+      return;
+    }
+    GuiActionRunner.executeInEDTInCurrentThread(true);
+    robot = BasicRobot.robotWithIsolatedAwtHierarchy();
+  }
+
+  /**
+   * Indicates whether this test can run concurrently with other isolated tests in the same JVM. By default, this method
+   * returns {@code false}. Subclasses can override this method to return {@code true}, as long as they only interact
+   * with the {@code Window}s shown by this test's {@link Robot}.
+   *
+   * @return {@code true} if this test uses an isolated {@link Robot}, {@code false} otherwise.
+   * @see BasicRobot#robotWithIsolatedAwtHierarchy()
+   */
+  protected boolean runsInIsolation() {
+    return false;
   }
 
   /**
    * Cleans up resources used by this test's {@link Robot}.
    */
   protected final void cleanUp() {
-    robot.cleanUp();
+    try {
+      robot.cleanUp();
+    } finally {
+      if (runsInIsolation()) {
+        GuiActionRunner.clearExecuteInEDTInCurrentThread();
+      }
+    }
   }
 
   /**
@@ -33,6 +33,8 @@ public abstract class Condition {
 
   private final Description description;
 
+  private volatile ConditionWaiter waiter;
+
   /**
    * Creates a new {@link Condition}.
    *
@@ -83,6 +85,64 @@ public abstract class Condition {
     return EMPTY_TEXT;
   }
 
+  /**
+   * <p>
+   * Returns the mask of the AWT events (e.g. {@code AWTEvent.WINDOW_EVENT_MASK}) that may change the result of
+   * {@link #test()}. {@link Pause#pause(Condition)} (and all overloaded methods) re-evaluates this condition as soon as
+   * any of these events is dispatched, instead of polling it.
+   * </p>
+   *
+   * <p>
+   * The default value is zero (this condition does not depend on any AWT event.)
+   * </p>
+   *
+   * @return the mask of the AWT events this condition depends on.
+   */
+  protected long awtEventMask() {
+    return 0;
+  }
+
+  /**
+   * <p>
+   * Indicates whether all the changes that may affect the result of {@link #test()} are notified, either through the
+   * AWT events specified in {@link #awtEventMask()} or by calling {@link #notifyChanged()}. Event-aware conditions are
+   * re-evaluated only when notified of a change (and, as a safeguard, at long intervals,) while other conditions are
+   * polled.
+   * </p>
+   *
+   * <p>
+   * The default implementation returns {@code true} if this condition depends on any AWT event. Conditions that listen
+   * to other sources of changes (e.g. a {@code TreeModel}) should override this method.
+   * </p>
+   *
+   * @return {@code true} if changes to this condition are notified, {@code false} otherwise.
+   */
+  protected boolean isEventAware() {
+    return awtEventMask() != 0;
+  }
+
+  /**
+   * Notification that {@link Pause#pause(Condition)} (and all overloaded methods) is about to start waiting for this
+   * condition. This is a good place to register any listeners that call {@link #notifyChanged()}, to be removed in
+   * {@link #done()}. If this method throws an exception, {@link #done()} is still invoked.
+   */
+  protected void startWaiting() {}
+
+  /**
+   * Notifies that the result of {@link #test()} may have changed, waking up any thread waiting for this condition. It
+   * is safe to call this method from any thread, including the event dispatch thread (EDT.)
+   */
+  protected void notifyChanged() {
+    ConditionWaiter current = waiter;
+    if (current != null) {
+      current.changed();
+    }
+  }
+
+  void waiter(ConditionWaiter newWaiter) {
+    waiter = newWaiter;
+  }
+
   /**
    * Notification that this condition has been evaluated. This method is invoked by {@link Pause#pause(Condition)} (and
    * all overloaded methods) when this condition is evaluated (either it was satisfied or it timed-out.) This is a good
@@ -0,0 +1,170 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.timing;
+
+import static java.lang.Math.min;
+
+import java.awt.AWTEvent;
+import java.awt.Toolkit;
+import java.awt.event.AWTEventListener;
+
+import javax.annotation.Nonnull;
+
+import org.fest.swing.util.ToolkitProvider;
+
+/**
+ * <p>
+ * Parks the thread waiting for one or more {@link Condition}s until any of them may have changed.
+ * </p>
+ *
+ * <p>
+ * Event-aware conditions (see {@link Condition#isEventAware()}) wake up the waiting thread as soon as any of the AWT
+ * events they depend on is dispatched, or when they report a change through {@link Condition#notifyChanged()}. As a
+ * safeguard against changes that are not notified, these conditions are also re-evaluated every
+ * {@value #MAX_EVENT_AWARE_INTERVAL} milliseconds. Conditions that are not event-aware are polled, starting at
+ * {@value #MIN_POLL_INTERVAL} millisecond and doubling the interval up to {@value #MAX_POLL_INTERVAL} milliseconds.
+ * </p>
+ *
+ * @author Alex Ruiz
+ */
+final class ConditionWaiter implements AWTEventListener {
+  private static final long MIN_POLL_INTERVAL = 1;
+  private static final long MAX_POLL_INTERVAL = 20;
+  private static final long MAX_EVENT_AWARE_INTERVAL = 100;
+
+  private final Condition[] conditions;
+  private final Toolkit toolkit;
+  private final long eventMask;
+  private final long maxInterval;
+
+  private final Object lock = new Object();
+  private long changeCount;
+  private long interval = MIN_POLL_INTERVAL;
+
+  static @Nonnull ConditionWaiter startWaitingFor(@Nonnull Condition... conditions) {
+    ConditionWaiter waiter = new ConditionWaiter(ToolkitProvider.instance().defaultToolkit(), conditions);
+    waiter.start();
+    return waiter;
+  }
+
+  private ConditionWaiter(@Nonnull Toolkit toolkit, @Nonnull Condition[] conditions) {
+    this.toolkit = toolkit;
+    this.conditions = conditions;
+    long mask = 0;
+    boolean eventAware = true;
+    for (Condition condition : conditions) {
+      mask |= condition.awtEventMask();
+      eventAware &= condition.isEventAware();
+    }
+    eventMask = mask;
+    maxInterval = eventAware ? MAX_EVENT_AWARE_INTERVAL : MAX_POLL_INTERVAL;
+  }
+
+  // If a condition fails to start waiting, the conditions started so far (including the failing one, which may have
+  // registered some of its listeners) are notified as done, so they can remove their listeners.
+  private void start() {
+    int waiting = 0;
+    boolean started = false;
+    try {
+      for (Condition condition : conditions) {
+        condition.waiter(this);
+        waiting++;
+        condition.startWaiting();
+      }
+      if (eventMask != 0) {
+        toolkit.addAWTEventListener(this, eventMask);
+      }
+      started = true;
+    } finally {
+      if (!started) {
+        abort(waiting);
+      }
+    }
+  }
+
+  private void abort(int waiting) {
+    for (int i = 0; i < waiting; i++) {
+      conditions[i].waiter(null);
+      conditions[i].done();
+    }
+  }
+
+  /**
+   * Stops listening for changes in the conditions being waited for.
+   */
+  void stop() {
+    if (eventMask != 0) {
+      toolkit.removeAWTEventListener(this);
+    }
+    for (Condition condition : conditions) {
+      condition.waiter(null);
+    }
+  }
+
+  @Override
+  public void eventDispatched(AWTEvent event) {
+    changed();
+  }
+
+  void changed() {
+    synchronized (lock) {
+      changeCount++;
+      lock.notifyAll();
+    }
+  }
+
+  /**
+   * @return the number of changes notified so far. To be read before evaluating the conditions, and passed to
+   *         {@link #awaitChange(long, long)}.
+   */
+  long changeCount() {
+    synchronized (lock) {
+      return changeCount;
+    }
+  }
+
+  /**
+   * Parks the current thread until a change is notified after the given number of changes, until the current waiting
+   * interval or the given time limit expires, or until the current thread is interrupted.
+   *
+   * @param seenChangeCount the number of changes seen when the conditions were last evaluated.
+   * @param timeLeft the maximum time to wait, in milliseconds.
+   */
+  void awaitChange(long seenChangeCount, long timeLeft) {
+    long timeToWait = min(nextInterval(), timeLeft);
+    if (timeToWait <= 0) {
+      return;
+    }
+    long deadline = System.currentTimeMillis() + timeToWait;
+    synchronized (lock) {
+      long remaining = timeToWait;
+      while (changeCount == seenChangeCount && remaining > 0) {
+        try {
+          lock.wait(remaining);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          return;
+        }
+        remaining = deadline - System.currentTimeMillis();
+      }
+    }
+  }
+
+  private long nextInterval() {
+    long current = interval;
+    interval = min(interval * 2, maxInterval);
+    return current;
+  }
+}
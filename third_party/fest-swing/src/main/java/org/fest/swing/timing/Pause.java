@@ -14,7 +14,11 @@
  */
 package org.fest.swing.timing;
 
-import static org.fest.swing.util.TimeoutWatch.startWatchWithTimeoutOf;
+import static java.lang.System.currentTimeMillis;
+import static org.fest.swing.metrics.Metrics.startTiming;
+import static org.fest.swing.metrics.Metrics.stopTiming;
+import static org.fest.swing.metrics.Operation.PAUSE;
+import static org.fest.swing.timing.ConditionWaiter.startWaitingFor;
 import static org.fest.util.Arrays.format;
 import static org.fest.util.Preconditions.checkNotNull;
 import static org.fest.util.Preconditions.checkNotNullOrEmpty;
@@ -24,10 +28,17 @@ import java.util.concurrent.TimeUnit;
 import javax.annotation.Nonnull;
 
 import org.fest.swing.exception.WaitTimedOutError;
-import org.fest.swing.util.TimeoutWatch;
 
 /**
+ * <p>
  * Waits for period of time or for a particular condition to be satisfied.
+ * </p>
+ * 
+ * <p>
+ * While waiting for a {@link Condition}, the current thread is parked until the condition may have changed: conditions
+ * that depend on AWT events (see {@link Condition#awtEventMask()}) or that notify their own changes are re-evaluated
+ * when notified, while other conditions are polled at increasing intervals (up to 20 milliseconds.)
+ * </p>
  * 
  * @author Alex Ruiz
  * @author Yvonne Wang
@@ -71,13 +82,23 @@ public final class Pause {
    */
   public static void pause(@Nonnull Condition condition, long timeout) {
     checkNotNull(condition);
-    TimeoutWatch watch = startWatchWithTimeoutOf(timeout);
-    while (!condition.test()) {
-      if (watch.isTimeOut() && !condition.test()) {
-        condition.done();
-        throw new WaitTimedOutError(String.format("Timed out waiting for %s", condition.toString()));
+    long start = startTiming();
+    long deadline = currentTimeMillis() + timeout;
+    ConditionWaiter waiter = startWaitingFor(condition);
+    try {
+      long changeCount = waiter.changeCount();
+      while (!condition.test()) {
+        long timeLeft = deadline - currentTimeMillis();
+        if (timeLeft <= 0 && !condition.test()) {
+          condition.done();
+          throw new WaitTimedOutError(String.format("Timed out waiting for %s", condition.toString()));
+        }
+        waiter.awaitChange(changeCount, timeLeft);
+        changeCount = waiter.changeCount();
       }
-      pause(SLEEP_INTERVAL);
+    } finally {
+      waiter.stop();
+      stopTiming(PAUSE, start);
     }
     condition.done();
   }
@@ -122,24 +143,40 @@ public final class Pause {
    */
   public static void pause(@Nonnull Condition[] conditions, long timeout) {
     checkNotNullOrEmpty(conditions);
-    TimeoutWatch watch = startWatchWithTimeoutOf(timeout);
-    while (!areSatisfied(conditions)) {
-      if (watch.isTimeOut()) {
-        for (Condition condition : conditions) {
-          condition.done();
+    checkNotNullElementsIn(conditions);
+    long start = startTiming();
+    long deadline = currentTimeMillis() + timeout;
+    ConditionWaiter waiter = startWaitingFor(conditions);
+    try {
+      long changeCount = waiter.changeCount();
+      while (!areSatisfied(conditions)) {
+        long timeLeft = deadline - currentTimeMillis();
+        if (timeLeft <= 0) {
+          for (Condition condition : conditions) {
+            condition.done();
+          }
+          throw new WaitTimedOutError(String.format("Timed out waiting for %s", format(conditions)));
         }
-        throw new WaitTimedOutError(String.format("Timed out waiting for %s", format(conditions)));
+        waiter.awaitChange(changeCount, timeLeft);
+        changeCount = waiter.changeCount();
       }
-      pause(SLEEP_INTERVAL);
+    } finally {
+      waiter.stop();
+      stopTiming(PAUSE, start);
     }
     for (Condition condition : conditions) {
       condition.done();
     }
   }
 
-  private static boolean areSatisfied(@Nonnull Condition[] conditions) {
+  private static void checkNotNullElementsIn(@Nonnull Condition[] conditions) {
     for (Condition condition : conditions) {
       checkNotNull(condition);
+    }
+  }
+
+  private static boolean areSatisfied(@Nonnull Condition[] conditions) {
+    for (Condition condition : conditions) {
       if (!condition.test()) {
         return false;
       }
@@ -172,11 +209,13 @@ public final class Pause {
    * @param ms the time to sleep in milliseconds.
    */
   public static void pause(long ms) {
+    long start = startTiming();
     try {
       Thread.sleep(ms);
     } catch (InterruptedException e) {
       Thread.currentThread().interrupt();
     }
+    stopTiming(PAUSE, start);
   }
 
   /**
@@ -37,9 +37,24 @@ public final class Wait {
 
   public final class WithDescription {
     private final String myDescription;
+    private final long myAwtEventMask;
 
     private WithDescription(@Nonnull String description) {
+      this(description, 0);
+    }
+
+    private WithDescription(@Nonnull String description, long awtEventMask) {
       myDescription = description;
+      myAwtEventMask = awtEventMask;
+    }
+
+    /**
+     * Re-evaluates the objective as soon as any of the AWT events in {@code awtEventMask} (e.g.
+     * {@code AWTEvent.WINDOW_EVENT_MASK}) is dispatched, instead of polling it. The objective must only change as a
+     * result of these events.
+     */
+    public WithDescription whenNotifiedBy(long awtEventMask) {
+      return new WithDescription(myDescription, myAwtEventMask | awtEventMask);
     }
 
     /** Waits until {@code objective} is met or the time limit set by {@link #seconds} expires. */
@@ -49,6 +64,11 @@ public final class Wait {
         public boolean test() {
           return objective.isMet();
         }
+
+        @Override
+        protected long awtEventMask() {
+          return myAwtEventMask;
+        }
       };
       Pause.pause(condition, myTimeout);
     }
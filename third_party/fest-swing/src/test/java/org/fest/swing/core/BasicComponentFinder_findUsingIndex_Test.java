@@ -0,0 +1,144 @@
+/*
+ * Created on Oct 18, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.core;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.swing.edt.GuiActionRunner.execute;
+import static org.fest.swing.hierarchy.NewHierarchy.ignoreExistingComponents;
+import static org.fest.swing.test.core.CommonAssertions.failWhenExpectingException;
+import static org.fest.swing.test.task.WindowDestroyTask.hideAndDisposeInEDT;
+
+import java.awt.Frame;
+
+import javax.swing.JButton;
+import javax.swing.JTextField;
+
+import org.fest.swing.annotation.RunsInEDT;
+import org.fest.swing.edt.GuiQuery;
+import org.fest.swing.exception.ComponentLookupException;
+import org.fest.swing.test.core.SequentialEDTSafeTestCase;
+import org.fest.swing.test.swing.TestWindow;
+import org.junit.Test;
+
+/**
+ * Tests for {@link BasicComponentFinder#find(ComponentMatcher)} when {@link Settings#indexComponentLookups()} is
+ * enabled.
+ *
+ * @author Alex Ruiz
+ */
+public class BasicComponentFinder_findUsingIndex_Test extends SequentialEDTSafeTestCase {
+  private BasicComponentFinder finder;
+  private MyWindow window;
+  private MyWindow unopenedWindow;
+  private Frame emptyFrame;
+
+  @Override
+  protected final void onSetUp() {
+    Settings settings = new Settings();
+    settings.indexComponentLookups(true);
+    finder = new BasicComponentFinder(ignoreExistingComponents(), settings);
+  }
+
+  @Override
+  protected final void onTearDown() {
+    if (window != null) {
+      window.destroy();
+    }
+    if (unopenedWindow != null) {
+      unopenedWindow.destroy();
+    }
+    hideAndDisposeInEDT(emptyFrame);
+  }
+
+  @Test
+  public void should_throw_error_if_more_than_one_Component_matched() {
+    window = MyWindow.createNew();
+    try {
+      finder.find(new TypeMatcher(JTextField.class));
+      failWhenExpectingException();
+    } catch (ComponentLookupException e) {
+      assertThat(e.getMessage()).contains("Found:").contains("name='textField1'").contains("name='textField2'");
+    }
+  }
+
+  @Test
+  public void should_find_Component_in_Window_created_after_index() {
+    // creates the index before the window to look up exists
+    finder.findAll(new TypeMatcher(JButton.class));
+    unopenedWindow = MyWindow.createNew();
+    assertThat(finder.findAll(unopenedWindow, new NameMatcher("textField1"))).containsOnly(unopenedWindow.textField1);
+  }
+
+  @Test
+  public void should_throw_error_if_opened_and_unopened_Windows_matched() {
+    // creates the index before the windows to look up exist
+    finder.findAll(new TypeMatcher(JButton.class));
+    window = MyWindow.createNew();
+    window.display();
+    unopenedWindow = MyWindow.createNew();
+    try {
+      finder.find(new TypeMatcher(MyWindow.class, false));
+      failWhenExpectingException();
+    } catch (ComponentLookupException e) {
+      assertThat(e.getMessage()).contains("Found more than one component");
+    }
+  }
+
+  @Test
+  public void should_throw_error_if_opened_Window_and_empty_unopened_Frame_matched() {
+    // creates the index before the windows to look up exist
+    finder.findAll(new TypeMatcher(JButton.class));
+    window = MyWindow.createNew();
+    window.display();
+    emptyFrame = execute(new GuiQuery<Frame>() {
+      @Override
+      protected Frame executeInEDT() {
+        return new Frame();
+      }
+    });
+    try {
+      finder.find(new TypeMatcher(Frame.class, false));
+      failWhenExpectingException();
+    } catch (ComponentLookupException e) {
+      assertThat(e.getMessage()).contains("Found more than one component");
+    }
+  }
+
+  private static class MyWindow extends TestWindow {
+    final JTextField textField1 = textFieldWithName("textField1");
+    final JTextField textField2 = textFieldWithName("textField2");
+
+    @RunsInEDT
+    static MyWindow createNew() {
+      return execute(new GuiQuery<MyWindow>() {
+        @Override
+        protected MyWindow executeInEDT() {
+          return new MyWindow();
+        }
+      });
+    }
+
+    private MyWindow() {
+      super(BasicComponentFinder_findUsingIndex_Test.class);
+      addComponents(textField1, textField2);
+    }
+
+    private static JTextField textFieldWithName(String name) {
+      JTextField textField = new JTextField(20);
+      textField.setName(name);
+      return textField;
+    }
+  }
+}
@@ -0,0 +1,159 @@
+/*
+ * Created on Oct 18, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.core;
+
+import static java.awt.event.KeyEvent.VK_ENTER;
+import static java.awt.event.KeyEvent.VK_TAB;
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.swing.edt.GuiActionRunner.execute;
+import static org.fest.swing.test.task.ComponentRequestFocusAndWaitForFocusGainTask.giveFocusAndWaitTillIsFocused;
+import static org.fest.util.Preconditions.checkNotNull;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.Nonnull;
+import javax.swing.JTextArea;
+import javax.swing.JTextField;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+import javax.swing.text.JTextComponent;
+
+import org.fest.swing.annotation.RunsInEDT;
+import org.fest.swing.edt.GuiQuery;
+import org.fest.swing.edt.GuiTask;
+import org.fest.swing.test.core.EDTSafeTestCase;
+import org.fest.swing.test.recorder.KeyRecorder;
+import org.fest.swing.test.swing.TestWindow;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link BasicRobot#enterText(String)}, when {@link Settings#bulkTextEntry()} is enabled.
+ *
+ * @author Alex Ruiz
+ */
+public class BasicRobot_enterTextInBulk_Test extends EDTSafeTestCase {
+  private BasicRobot robot;
+  private MyWindow window;
+
+  @Before
+  public void setUp() {
+    robot = (BasicRobot) BasicRobot.robotWithCurrentAwtHierarchy();
+    robot.settings().bulkTextEntry(true);
+    window = MyWindow.createNew(getClass());
+    robot.showWindow(window);
+  }
+
+  @After
+  public void tearDown() {
+    try {
+      window.destroy();
+    } finally {
+      robot.cleanUp();
+    }
+  }
+
+  @Test
+  public void should_enter_text_and_notify_Document_listeners() {
+    final JTextField textField = window.firstTextField;
+    giveFocusAndWaitTillIsFocused(textField);
+    final AtomicInteger insertCount = new AtomicInteger();
+    execute(new GuiTask() {
+      @Override
+      protected void executeInEDT() {
+        textField.getDocument().addDocumentListener(new DocumentListener() {
+          @Override
+          public void insertUpdate(DocumentEvent e) {
+            insertCount.incrementAndGet();
+          }
+
+          @Override
+          public void removeUpdate(DocumentEvent e) {}
+
+          @Override
+          public void changedUpdate(DocumentEvent e) {}
+        });
+      }
+    });
+    robot.waitForIdle();
+    robot.enterText("Hello World!");
+    assertThat(textOf(textField)).isEqualTo("Hello World!");
+    assertThat(insertCount.get()).isEqualTo(12);
+  }
+
+  @Test
+  public void should_post_printable_characters_instead_of_typing_them() {
+    JTextField textField = window.firstTextField;
+    giveFocusAndWaitTillIsFocused(textField);
+    KeyRecorder recorder = KeyRecorder.attachTo(textField);
+    robot.enterText("Hello World!");
+    assertThat(textOf(textField)).isEqualTo("Hello World!");
+    assertThat(recorder.pressedKeyCodes()).isEmpty();
+  }
+
+  @Test
+  public void should_type_tab_and_enter_text_after_it_in_next_Component() {
+    giveFocusAndWaitTillIsFocused(window.firstTextField);
+    KeyRecorder firstRecorder = KeyRecorder.attachTo(window.firstTextField);
+    KeyRecorder secondRecorder = KeyRecorder.attachTo(window.secondTextField);
+    robot.enterText("Luke\tLeia");
+    assertThat(textOf(window.firstTextField)).isEqualTo("Luke");
+    assertThat(textOf(window.secondTextField)).isEqualTo("Leia");
+    assertThat(firstRecorder.pressedKeyCodes()).containsOnly(VK_TAB);
+    assertThat(secondRecorder.pressedKeyCodes()).isEmpty();
+  }
+
+  @Test
+  public void should_type_new_line_in_JTextArea() {
+    giveFocusAndWaitTillIsFocused(window.textArea);
+    KeyRecorder recorder = KeyRecorder.attachTo(window.textArea);
+    robot.enterText("Luke\nLeia");
+    assertThat(textOf(window.textArea)).isEqualTo("Luke\nLeia");
+    assertThat(recorder.pressedKeyCodes()).containsOnly(VK_ENTER);
+  }
+
+  @RunsInEDT
+  private static String textOf(final JTextComponent textComponent) {
+    return execute(new GuiQuery<String>() {
+      @Override
+      protected String executeInEDT() {
+        return textComponent.getText();
+      }
+    });
+  }
+
+  private static class MyWindow extends TestWindow {
+    final JTextField firstTextField = new JTextField(10);
+    final JTextField secondTextField = new JTextField(10);
+    final JTextArea textArea = new JTextArea(3, 10);
+
+    @RunsInEDT
+    static @Nonnull MyWindow createNew(final @Nonnull Class<?> testClass) {
+      MyWindow result = execute(new GuiQuery<MyWindow>() {
+        @Override
+        protected MyWindow executeInEDT() {
+          return new MyWindow(testClass);
+        }
+      });
+      return checkNotNull(result);
+    }
+
+    private MyWindow(@Nonnull Class<?> testClass) {
+      super(testClass);
+      addComponents(firstTextField, secondTextField, textArea);
+    }
+  }
+}
@@ -0,0 +1,155 @@
+/*
+ * Created on Oct 18, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.core;
+
+import static javax.swing.SwingUtilities.invokeLater;
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.swing.metrics.Operation.IDLE_WAIT;
+import static org.fest.swing.query.ComponentShowingQuery.isShowing;
+import static org.fest.swing.timing.Pause.pause;
+import static org.fest.util.Preconditions.checkNotNull;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.fest.swing.hierarchy.ScopedHierarchy;
+import org.fest.swing.lock.ScreenLock;
+import org.fest.swing.metrics.HistogramMetricsRecorder;
+import org.fest.swing.metrics.Metrics;
+import org.fest.swing.test.core.EDTSafeTestCase;
+import org.fest.swing.test.swing.TestWindow;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link BasicRobot#robotWithIsolatedAwtHierarchy()}.
+ * 
+ * @author Alex Ruiz
+ */
+public class BasicRobot_robotWithIsolatedAwtHierarchy_Test extends EDTSafeTestCase {
+  private BasicRobot robot;
+  private TestWindow window;
+  private TestWindow otherWindow;
+
+  @Before
+  public void setUp() {
+    robot = (BasicRobot) BasicRobot.robotWithIsolatedAwtHierarchy();
+    window = TestWindow.createNewWindow(getClass());
+  }
+
+  @After
+  public void tearDown() {
+    try {
+      window.destroy();
+      if (otherWindow != null) {
+        otherWindow.destroy();
+      }
+    } finally {
+      robot.cleanUp();
+      Metrics.uninstall();
+    }
+  }
+
+  @Test
+  public void should_only_dispose_own_Windows_when_cleaned_up() {
+    otherWindow = TestWindow.createAndShowNewWindow(getClass());
+    robot.showWindow(window);
+    robot.cleanUp();
+    assertThat(isShowing(window)).isFalse();
+    assertThat(isShowing(otherWindow)).isTrue();
+    assertThat(((ScopedHierarchy) robot.hierarchy()).windows()).isEmpty();
+  }
+
+  @Test
+  public void should_wait_for_EventQueue_of_own_Windows_only_once() {
+    robot.showWindow(window);
+    HistogramMetricsRecorder recorder = new HistogramMetricsRecorder();
+    Metrics.install(recorder);
+    AtomicInteger processed = postSlowEvents(5);
+    robot.waitForIdle();
+    assertThat(processed.get()).isEqualTo(5);
+    // all the Windows of this test share the system EventQueue, which is waited for once
+    assertThat(recorder.summary().metricsOf(IDLE_WAIT).count()).isEqualTo(1);
+  }
+
+  @Test
+  public void should_not_acquire_ScreenLock_when_created() {
+    assertThat(ScreenLock.instance().acquiredBy(screenLockOwner())).isFalse();
+  }
+
+  @Test
+  public void should_release_ScreenLock_after_showing_Window() {
+    robot.showWindow(window);
+    assertThat(isShowing(window)).isTrue();
+    assertThat(ScreenLock.instance().acquiredBy(screenLockOwner())).isFalse();
+  }
+
+  @Test
+  public void should_wait_for_ScreenLock_to_be_free_before_showing_Window() throws InterruptedException {
+    Object otherOwner = new Object();
+    ScreenLock.instance().acquire(otherOwner);
+    Thread showWindow = new Thread() {
+      @Override
+      public void run() {
+        robot.showWindow(window);
+      }
+    };
+    try {
+      showWindow.start();
+      pause(500);
+      assertThat(isShowing(window)).isFalse();
+    } finally {
+      ScreenLock.instance().release(otherOwner);
+    }
+    showWindow.join();
+    assertThat(isShowing(window)).isTrue();
+  }
+
+  @Test
+  public void should_acquire_ScreenLock_when_moving_mouse() {
+    robot.showWindow(window);
+    robot.moveMouse(window);
+    assertThat(ScreenLock.instance().acquiredBy(screenLockOwner())).isTrue();
+    robot.cleanUp();
+    assertThat(ScreenLock.instance().acquiredBy(screenLockOwner())).isFalse();
+  }
+
+  @Test
+  public void should_acquire_ScreenLock_when_changing_focus() {
+    otherWindow = TestWindow.createNewWindow(getClass());
+    robot.showWindow(window);
+    robot.showWindow(otherWindow);
+    robot.focus(window);
+    assertThat(ScreenLock.instance().acquiredBy(screenLockOwner())).isTrue();
+  }
+
+  private Object screenLockOwner() {
+    return checkNotNull(robot.screenLockOwner());
+  }
+
+  private static AtomicInteger postSlowEvents(int count) {
+    final AtomicInteger processed = new AtomicInteger();
+    for (int i = 0; i < count; i++) {
+      invokeLater(new Runnable() {
+        @Override
+        public void run() {
+          pause(20);
+          processed.incrementAndGet();
+        }
+      });
+    }
+    return processed;
+  }
+}
@@ -0,0 +1,79 @@
+/*
+ * Created on Oct 18, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.core;
+
+import static javax.swing.SwingUtilities.invokeLater;
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.swing.metrics.Operation.IDLE_WAIT;
+import static org.fest.swing.metrics.Operation.IDLE_WAIT_TIMEOUT;
+import static org.fest.swing.timing.Pause.pause;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.fest.swing.metrics.HistogramMetricsRecorder;
+import org.fest.swing.metrics.Metrics;
+import org.fest.swing.metrics.MetricsSummary;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Tests for {@link BasicRobot#waitForIdle()}.
+ * 
+ * @author Alex Ruiz
+ */
+public class BasicRobot_waitForIdle_Test extends BasicRobot_TestCase {
+  private final HistogramMetricsRecorder recorder = new HistogramMetricsRecorder();
+
+  @After
+  public void uninstallRecorder() {
+    Metrics.uninstall();
+  }
+
+  @Test
+  public void should_wait_for_pending_events_when_tracking_EventQueue_quiescence() {
+    robot().settings().trackEventQueueQuiescence(true);
+    assertThatPendingEventsAreProcessedByWaitForIdle();
+  }
+
+  @Test
+  public void should_wait_for_pending_events_when_polling_EventQueue() {
+    robot().settings().trackEventQueueQuiescence(false);
+    assertThatPendingEventsAreProcessedByWaitForIdle();
+  }
+
+  private void assertThatPendingEventsAreProcessedByWaitForIdle() {
+    Metrics.install(recorder);
+    AtomicInteger processed = postSlowEvents(5);
+    robot().waitForIdle();
+    assertThat(processed.get()).isEqualTo(5);
+    MetricsSummary summary = recorder.summary();
+    assertThat(summary.metricsOf(IDLE_WAIT).count()).isGreaterThan(0);
+    assertThat(summary.metricsOf(IDLE_WAIT_TIMEOUT).count()).isEqualTo(0);
+  }
+
+  private static AtomicInteger postSlowEvents(int count) {
+    final AtomicInteger processed = new AtomicInteger();
+    for (int i = 0; i < count; i++) {
+      invokeLater(new Runnable() {
+        @Override
+        public void run() {
+          pause(20);
+          processed.incrementAndGet();
+        }
+      });
+    }
+    return processed;
+  }
+}
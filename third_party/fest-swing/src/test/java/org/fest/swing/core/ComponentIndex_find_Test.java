@@ -0,0 +1,121 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.core;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.swing.core.ComponentIndex.createIndex;
+import static org.fest.swing.edt.GuiActionRunner.execute;
+import static org.fest.util.Lists.newArrayList;
+
+import java.awt.Component;
+import java.awt.Toolkit;
+import java.util.Collection;
+
+import javax.swing.JTextField;
+
+import org.fest.swing.annotation.RunsInEDT;
+import org.fest.swing.edt.GuiQuery;
+import org.fest.swing.edt.GuiTask;
+import org.fest.swing.hierarchy.ComponentHierarchy;
+import org.fest.swing.hierarchy.NewHierarchy;
+import org.fest.swing.test.core.SequentialEDTSafeTestCase;
+import org.fest.swing.test.swing.TestWindow;
+import org.junit.Test;
+
+/**
+ * Tests for {@link ComponentIndex#find(ComponentHierarchy, ComponentMatcher)}.
+ *
+ * @author Alex Ruiz
+ */
+public class ComponentIndex_find_Test extends SequentialEDTSafeTestCase {
+  private ComponentHierarchy hierarchy;
+  private ComponentIndex index;
+  private MyWindow window;
+
+  @Override
+  protected final void onSetUp() {
+    hierarchy = NewHierarchy.ignoreExistingComponents();
+    index = createIndex(Toolkit.getDefaultToolkit());
+    window = MyWindow.createNew();
+  }
+
+  @Override
+  protected final void onTearDown() {
+    window.destroy();
+  }
+
+  @Test
+  public void should_find_Component_by_name() {
+    assertThat(index.find(hierarchy, new NameMatcher("two"))).containsOnly(window.textField2);
+  }
+
+  @Test
+  public void should_find_Component_after_it_has_been_renamed() {
+    rename(window.textField2, "four");
+    assertThat(index.find(hierarchy, new NameMatcher("two"))).isEmpty();
+    assertThat(index.find(hierarchy, new NameMatcher("four"))).containsOnly(window.textField2);
+  }
+
+  @Test
+  public void should_find_Components_by_type_in_same_order_as_hierarchy_walk() {
+    TypeMatcher matcher = new TypeMatcher(JTextField.class);
+    Collection<Component> found = index.find(hierarchy, matcher);
+    assertThat(newArrayList(found)).isEqualTo(newArrayList(new FinderDelegate().find(hierarchy, matcher)));
+    assertThat(found).hasSize(3);
+  }
+
+  @Test
+  public void should_not_find_Components_outside_hierarchy() {
+    ComponentHierarchy newHierarchy = NewHierarchy.ignoreExistingComponents();
+    assertThat(index.find(newHierarchy, new NameMatcher("one"))).isEmpty();
+  }
+
+  @RunsInEDT
+  private static void rename(final Component c, final String name) {
+    execute(new GuiTask() {
+      @Override
+      protected void executeInEDT() {
+        c.setName(name);
+      }
+    });
+  }
+
+  private static class MyWindow extends TestWindow {
+    final JTextField textField1 = textFieldWithName("one");
+    final JTextField textField2 = textFieldWithName("two");
+    final JTextField textField3 = textFieldWithName("three");
+
+    @RunsInEDT
+    static MyWindow createNew() {
+      return execute(new GuiQuery<MyWindow>() {
+        @Override
+        protected MyWindow executeInEDT() {
+          return new MyWindow();
+        }
+      });
+    }
+
+    private MyWindow() {
+      super(ComponentIndex_find_Test.class);
+      addComponents(textField1, textField2, textField3);
+    }
+
+    private static JTextField textFieldWithName(String name) {
+      JTextField textField = new JTextField(20);
+      textField.setName(name);
+      return textField;
+    }
+  }
+}
@@ -0,0 +1,129 @@
+/*
+ * Created on Oct 18, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.core;
+
+import static java.awt.Toolkit.getDefaultToolkit;
+import static javax.swing.SwingUtilities.invokeLater;
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.swing.core.IdleWaitOutcome.IDLE;
+import static org.fest.swing.core.IdleWaitOutcome.TIMED_OUT;
+import static org.fest.swing.timing.Pause.pause;
+
+import java.awt.EventQueue;
+import java.awt.Toolkit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.fest.swing.test.core.EDTSafeTestCase;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link EventQueueQuiescenceWaiter#waitForIdle(EventQueue, long)} and
+ * {@link EventQueueQuiescenceWaiter#waitForIdle(EventQueue, long, Runnable)}.
+ * 
+ * @author Alex Ruiz
+ */
+public class EventQueueQuiescenceWaiter_waitForIdle_Test extends EDTSafeTestCase {
+  private EventQueue eventQueue;
+  private EventQueueQuiescenceWaiter waiter;
+
+  @Before
+  public void setUp() {
+    Toolkit toolkit = getDefaultToolkit();
+    eventQueue = toolkit.getSystemEventQueue();
+    waiter = new EventQueueQuiescenceWaiter(toolkit);
+  }
+
+  @Test
+  public void should_return_after_pending_events_are_processed() {
+    final AtomicInteger processed = new AtomicInteger();
+    for (int i = 0; i < 5; i++) {
+      invokeLater(new Runnable() {
+        @Override
+        public void run() {
+          pause(20);
+          processed.incrementAndGet();
+        }
+      });
+    }
+    IdleWaitOutcome outcome = waiter.waitForIdle(eventQueue, 10000);
+    assertThat(outcome).isEqualTo(IDLE);
+    assertThat(processed.get()).isEqualTo(5);
+  }
+
+  @Test
+  public void should_return_after_events_posted_while_waiting_are_processed() {
+    final AtomicInteger processed = new AtomicInteger();
+    invokeLater(new Runnable() {
+      @Override
+      public void run() {
+        if (processed.incrementAndGet() < 10) {
+          invokeLater(this);
+        }
+      }
+    });
+    IdleWaitOutcome outcome = waiter.waitForIdle(eventQueue, 10000);
+    assertThat(outcome).isEqualTo(IDLE);
+    assertThat(processed.get()).isEqualTo(10);
+  }
+
+  @Test
+  public void should_run_task_in_EDT_once_event_queue_is_idle() {
+    final AtomicInteger processed = new AtomicInteger();
+    invokeLater(new Runnable() {
+      @Override
+      public void run() {
+        pause(20);
+        processed.incrementAndGet();
+      }
+    });
+    final AtomicInteger processedWhenIdle = new AtomicInteger(-1);
+    final AtomicBoolean ranInEDT = new AtomicBoolean();
+    IdleWaitOutcome outcome = waiter.waitForIdle(eventQueue, 10000, new Runnable() {
+      @Override
+      public void run() {
+        processedWhenIdle.set(processed.get());
+        ranInEDT.set(EventQueue.isDispatchThread());
+      }
+    });
+    assertThat(outcome).isEqualTo(IDLE);
+    assertThat(processedWhenIdle.get()).isEqualTo(1);
+    assertThat(ranInEDT.get()).isTrue();
+  }
+
+  @Test
+  public void should_time_out_if_event_queue_never_becomes_idle() {
+    BusyRunnable busy = new BusyRunnable();
+    invokeLater(busy);
+    try {
+      IdleWaitOutcome outcome = waiter.waitForIdle(eventQueue, 200);
+      assertThat(outcome).isEqualTo(TIMED_OUT);
+    } finally {
+      busy.stopped = true;
+    }
+  }
+
+  private static class BusyRunnable implements Runnable {
+    volatile boolean stopped;
+
+    @Override
+    public void run() {
+      if (!stopped) {
+        invokeLater(this);
+      }
+    }
+  }
+}
@@ -0,0 +1,87 @@
+/*
+ * Created on Oct 18, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.core;
+
+import static java.awt.event.InputEvent.BUTTON1_MASK;
+import static java.awt.event.KeyEvent.CHAR_UNDEFINED;
+import static java.awt.event.KeyEvent.VK_A;
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.swing.metrics.Operation.DELAY_BETWEEN_EVENTS;
+import static org.fest.swing.metrics.Operation.ROBOT_INPUT;
+import static org.fest.swing.test.core.CommonAssertions.failWhenExpectingException;
+import static org.fest.swing.util.TestRobotFactories.newRobotFactoryMock;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.awt.AWTException;
+import java.awt.Robot;
+
+import org.fest.swing.metrics.HistogramMetricsRecorder;
+import org.fest.swing.metrics.Metrics;
+import org.fest.swing.metrics.MetricsSummary;
+import org.fest.swing.util.RobotFactory;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for the operations recorded by {@link RobotEventGenerator} when a
+ * {@link org.fest.swing.metrics.MetricsRecorder} is installed.
+ * 
+ * @author Alex Ruiz
+ */
+public class RobotEventGenerator_metrics_Test {
+  private Robot robot;
+  private HistogramMetricsRecorder recorder;
+  private RobotEventGenerator eventGenerator;
+
+  @Before
+  public void setUp() throws AWTException {
+    robot = mock(Robot.class);
+    RobotFactory robotFactory = newRobotFactoryMock();
+    when(robotFactory.newRobotInPrimaryScreen()).thenReturn(robot);
+    eventGenerator = new RobotEventGenerator(robotFactory, new Settings());
+    recorder = new HistogramMetricsRecorder();
+    Metrics.install(recorder);
+  }
+
+  @After
+  public void tearDown() {
+    Metrics.uninstall();
+  }
+
+  @Test
+  public void should_record_input_generated_by_AWT_Robot_as_ROBOT_INPUT() {
+    eventGenerator.pressMouse(BUTTON1_MASK);
+    eventGenerator.releaseMouse(BUTTON1_MASK);
+    eventGenerator.moveMouse(10, 10);
+    MetricsSummary summary = recorder.summary();
+    assertThat(summary.metricsOf(ROBOT_INPUT).count()).isEqualTo(3);
+    assertThat(summary.metricsOf(DELAY_BETWEEN_EVENTS).count()).isEqualTo(0);
+  }
+
+  @Test
+  public void should_record_input_generated_by_AWT_Robot_even_if_it_fails() {
+    doThrow(new IllegalArgumentException("Thrown on purpose")).when(robot).keyPress(VK_A);
+    try {
+      eventGenerator.pressKey(VK_A, CHAR_UNDEFINED);
+      failWhenExpectingException();
+    } catch (IllegalArgumentException e) {
+      assertThat(e.getMessage()).isEqualTo("Invalid key code '" + VK_A + "'");
+    }
+    assertThat(recorder.summary().metricsOf(ROBOT_INPUT).count()).isEqualTo(1);
+  }
+}
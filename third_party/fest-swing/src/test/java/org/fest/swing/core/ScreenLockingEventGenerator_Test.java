@@ -0,0 +1,76 @@
+/*
+ * Created on Oct 18, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.core;
+
+import static java.awt.event.KeyEvent.CHAR_UNDEFINED;
+import static java.awt.event.KeyEvent.VK_A;
+import static org.fest.assertions.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+
+import org.fest.swing.lock.ScreenLock;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link ScreenLockingEventGenerator}.
+ *
+ * @author Alex Ruiz
+ */
+public class ScreenLockingEventGenerator_Test {
+  private InputEventGenerator delegate;
+  private ScreenLock screenLock;
+  private Object owner;
+  private ScreenLockingEventGenerator eventGenerator;
+
+  @Before
+  public void setUp() {
+    delegate = mock(InputEventGenerator.class);
+    screenLock = ScreenLock.instance();
+    owner = new Object();
+    eventGenerator = new ScreenLockingEventGenerator(delegate, screenLock, owner);
+  }
+
+  @After
+  public void tearDown() {
+    if (screenLock.acquiredBy(owner)) {
+      screenLock.release(owner);
+    }
+  }
+
+  @Test
+  public void should_acquire_ScreenLock_before_generating_input() {
+    eventGenerator.pressKey(VK_A, CHAR_UNDEFINED);
+    assertThat(screenLock.acquiredBy(owner)).isTrue();
+    verify(delegate).pressKey(VK_A, CHAR_UNDEFINED);
+  }
+
+  @Test
+  public void should_release_key_if_ScreenLock_was_acquired() {
+    eventGenerator.pressKey(VK_A, CHAR_UNDEFINED);
+    eventGenerator.releaseKey(VK_A);
+    verify(delegate).releaseKey(VK_A);
+  }
+
+  @Test
+  public void should_not_acquire_ScreenLock_when_releasing_keys_or_buttons() {
+    eventGenerator.releaseKey(VK_A);
+    eventGenerator.releaseMouse(MouseButton.LEFT_BUTTON.mask);
+    assertThat(screenLock.acquiredBy(owner)).isFalse();
+    verifyZeroInteractions(delegate);
+  }
+}
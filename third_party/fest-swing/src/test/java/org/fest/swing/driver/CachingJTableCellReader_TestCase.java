@@ -0,0 +1,72 @@
+/*
+ * Created on Oct 18, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.driver;
+
+import static org.fest.swing.edt.GuiActionRunner.execute;
+import static org.mockito.Mockito.mock;
+
+import javax.annotation.Nonnull;
+import javax.swing.JTable;
+import javax.swing.table.DefaultTableModel;
+
+import org.fest.swing.annotation.RunsInEDT;
+import org.fest.swing.cell.JTableCellReader;
+import org.fest.swing.edt.GuiQuery;
+import org.fest.swing.test.core.EDTSafeTestCase;
+import org.junit.Before;
+
+/**
+ * Base test case for {@link CachingJTableCellReader}.
+ * 
+ * @author Alex Ruiz
+ */
+public abstract class CachingJTableCellReader_TestCase extends EDTSafeTestCase {
+  JTableCellReader delegate;
+  DefaultTableModel model;
+  JTable table;
+  CachingJTableCellReader reader;
+
+  @Before
+  public final void setUp() {
+    delegate = mock(JTableCellReader.class);
+    model = new DefaultTableModel(4, 2);
+    table = createTable(model);
+    reader = new CachingJTableCellReader(delegate);
+  }
+
+  @RunsInEDT
+  private static @Nonnull JTable createTable(final @Nonnull DefaultTableModel model) {
+    return execute(new GuiQuery<JTable>() {
+      @Override
+      protected JTable executeInEDT() {
+        return new JTable(model);
+      }
+    });
+  }
+
+  @RunsInEDT
+  final void readValuesAt(final int... rows) {
+    execute(new GuiQuery<Void>() {
+      @Override
+      protected Void executeInEDT() {
+        for (int row : rows) {
+          reader.valueAt(table, row, 0);
+          reader.valueAt(table, row, 1);
+        }
+        return null;
+      }
+    });
+  }
+}
@@ -0,0 +1,60 @@
+/*
+ * Created on Oct 18, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.driver;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.swing.edt.GuiActionRunner.execute;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import org.fest.swing.edt.GuiTask;
+import org.junit.Test;
+
+/**
+ * Tests for {@link CachingJTableCellReader#dispose()}.
+ * 
+ * @author Alex Ruiz
+ */
+public class CachingJTableCellReader_dispose_Test extends CachingJTableCellReader_TestCase {
+  @Test
+  public void should_stop_listening_to_JTable_and_TableModel() {
+    int modelListenerCount = model.getTableModelListeners().length;
+    int tableListenerCount = table.getPropertyChangeListeners("model").length;
+    readValuesAt(0);
+    assertThat(model.getTableModelListeners()).hasSize(modelListenerCount + 1);
+    assertThat(table.getPropertyChangeListeners("model")).hasSize(tableListenerCount + 1);
+    execute(new GuiTask() {
+      @Override
+      protected void executeInEDT() {
+        reader.dispose();
+      }
+    });
+    assertThat(model.getTableModelListeners()).hasSize(modelListenerCount);
+    assertThat(table.getPropertyChangeListeners("model")).hasSize(tableListenerCount);
+  }
+
+  @Test
+  public void should_discard_cached_values() {
+    readValuesAt(0);
+    execute(new GuiTask() {
+      @Override
+      protected void executeInEDT() {
+        reader.dispose();
+      }
+    });
+    readValuesAt(0);
+    verify(delegate, times(2)).valueAt(table, 0, 0);
+  }
+}
@@ -0,0 +1,76 @@
+/*
+ * Created on Oct 18, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.driver;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.swing.edt.GuiActionRunner.execute;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import javax.swing.table.DefaultTableModel;
+
+import org.fest.swing.edt.GuiTask;
+import org.junit.Test;
+
+/**
+ * Tests for {@link CachingJTableCellReader#valueAt(javax.swing.JTable, int, int)} after the {@code TableModel} of the
+ * {@code JTable} is replaced.
+ * 
+ * @author Alex Ruiz
+ */
+public class CachingJTableCellReader_modelReplaced_Test extends CachingJTableCellReader_TestCase {
+  private DefaultTableModel newModel;
+
+  @Test
+  public void should_discard_all_values() {
+    readValuesAt(0);
+    replaceModel();
+    readValuesAt(0);
+    verify(delegate, times(2)).valueAt(table, 0, 0);
+  }
+
+  @Test
+  public void should_stop_listening_to_replaced_TableModel() {
+    readValuesAt(0);
+    int oldModelListenerCount = model.getTableModelListeners().length;
+    replaceModel();
+    // both the JTable and the reader stop listening to the replaced model
+    assertThat(model.getTableModelListeners()).hasSize(oldModelListenerCount - 2);
+  }
+
+  @Test
+  public void should_discard_values_when_new_TableModel_changes() {
+    replaceModel();
+    readValuesAt(0);
+    execute(new GuiTask() {
+      @Override
+      protected void executeInEDT() {
+        newModel.fireTableDataChanged();
+      }
+    });
+    readValuesAt(0);
+    verify(delegate, times(2)).valueAt(table, 0, 0);
+  }
+
+  private void replaceModel() {
+    newModel = new DefaultTableModel(2, 2);
+    execute(new GuiTask() {
+      @Override
+      protected void executeInEDT() {
+        table.setModel(newModel);
+      }
+    });
+  }
+}
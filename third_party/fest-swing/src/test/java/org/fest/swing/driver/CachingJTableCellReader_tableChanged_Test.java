@@ -0,0 +1,124 @@
+/*
+ * Created on Oct 18, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.driver;
+
+import static org.fest.swing.edt.GuiActionRunner.execute;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import org.fest.swing.edt.GuiTask;
+import org.junit.Test;
+
+/**
+ * Tests for {@link CachingJTableCellReader#valueAt(javax.swing.JTable, int, int)} after the {@code TableModel} notifies
+ * changes.
+ * 
+ * @author Alex Ruiz
+ */
+public class CachingJTableCellReader_tableChanged_Test extends CachingJTableCellReader_TestCase {
+  @Test
+  public void should_cache_values() {
+    readValuesAt(0, 1);
+    readValuesAt(0, 1);
+    verify(delegate, times(1)).valueAt(table, 0, 0);
+    verify(delegate, times(1)).valueAt(table, 1, 1);
+  }
+
+  @Test
+  public void should_discard_only_updated_cell() {
+    readValuesAt(0, 1);
+    execute(new GuiTask() {
+      @Override
+      protected void executeInEDT() {
+        model.setValueAt("Hello", 1, 0);
+      }
+    });
+    readValuesAt(0, 1);
+    verify(delegate, times(2)).valueAt(table, 1, 0);
+    verify(delegate, times(1)).valueAt(table, 1, 1);
+    verify(delegate, times(1)).valueAt(table, 0, 0);
+  }
+
+  @Test
+  public void should_discard_updated_rows() {
+    readValuesAt(0, 1, 2);
+    execute(new GuiTask() {
+      @Override
+      protected void executeInEDT() {
+        model.fireTableRowsUpdated(1, 2);
+      }
+    });
+    readValuesAt(0, 1, 2);
+    verify(delegate, times(1)).valueAt(table, 0, 0);
+    verify(delegate, times(2)).valueAt(table, 1, 0);
+    verify(delegate, times(2)).valueAt(table, 2, 1);
+  }
+
+  @Test
+  public void should_discard_all_values_when_rows_are_inserted() {
+    readValuesAt(0, 3);
+    execute(new GuiTask() {
+      @Override
+      protected void executeInEDT() {
+        model.insertRow(1, new Object[] { "One", "Two" });
+      }
+    });
+    readValuesAt(0, 3);
+    verify(delegate, times(2)).valueAt(table, 0, 0);
+    verify(delegate, times(2)).valueAt(table, 3, 1);
+  }
+
+  @Test
+  public void should_discard_all_values_when_rows_are_deleted() {
+    readValuesAt(0, 2);
+    execute(new GuiTask() {
+      @Override
+      protected void executeInEDT() {
+        model.removeRow(1);
+      }
+    });
+    readValuesAt(0, 2);
+    verify(delegate, times(2)).valueAt(table, 0, 0);
+    verify(delegate, times(2)).valueAt(table, 2, 1);
+  }
+
+  @Test
+  public void should_discard_all_values_when_structure_changes() {
+    readValuesAt(0, 1);
+    execute(new GuiTask() {
+      @Override
+      protected void executeInEDT() {
+        model.fireTableStructureChanged();
+      }
+    });
+    readValuesAt(0, 1);
+    verify(delegate, times(2)).valueAt(table, 0, 0);
+    verify(delegate, times(2)).valueAt(table, 1, 1);
+  }
+
+  @Test
+  public void should_discard_all_values_when_all_rows_change() {
+    readValuesAt(0, 1);
+    execute(new GuiTask() {
+      @Override
+      protected void executeInEDT() {
+        model.fireTableDataChanged();
+      }
+    });
+    readValuesAt(0, 1);
+    verify(delegate, times(2)).valueAt(table, 0, 0);
+    verify(delegate, times(2)).valueAt(table, 1, 1);
+  }
+}
@@ -0,0 +1,62 @@
+/*
+ * Created on Oct 18, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.driver;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.swing.driver.JTableDriver_TestCase.MyWindow.COLUMN_COUNT;
+import static org.fest.swing.driver.JTableDriver_TestCase.MyWindow.ROW_COUNT;
+import static org.fest.swing.test.swing.TestTable.createCellValueFrom;
+import static org.fest.util.Lists.newArrayList;
+
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link JTableDriver#contentsInPages(javax.swing.JTable)} and
+ * {@link JTableDriver#contents(javax.swing.JTable, int, int)}.
+ *
+ * @author Alex Ruiz
+ */
+public class JTableDriver_contentsInPages_Test extends JTableDriver_TestCase {
+  @Test
+  public void should_return_contents_in_pages() {
+    driver.contentsPageSize(4);
+    List<String[][]> pages = newArrayList();
+    Iterator<String[][]> iterator = driver.contentsInPages(table);
+    while (iterator.hasNext()) {
+      pages.add(iterator.next());
+    }
+    assertThat(pages).hasSize(3);
+    assertThat(pages.get(0)).hasSize(4);
+    assertThat(pages.get(2)).hasSize(ROW_COUNT - 8);
+    assertThat(pages.get(2)[1][COLUMN_COUNT - 1]).isEqualTo(createCellValueFrom(9, COLUMN_COUNT - 1));
+    assertThatCellReaderWasCalled();
+  }
+
+  @Test
+  public void should_return_contents_of_range_of_rows() {
+    String[][] contents = driver.contents(table, 8, 5);
+    assertThat(contents).hasSize(2);
+    assertThat(contents[0][0]).isEqualTo(createCellValueFrom(8, 0));
+    assertThat(contents[1][2]).isEqualTo(createCellValueFrom(9, 2));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void should_throw_error_if_page_size_is_not_positive() {
+    driver.contentsPageSize(0);
+  }
+}
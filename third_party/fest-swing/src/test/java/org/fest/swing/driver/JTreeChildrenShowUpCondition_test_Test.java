@@ -0,0 +1,163 @@
+/*
+ * Created on Oct 18, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.driver;
+
+import static java.lang.System.nanoTime;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.swing.driver.JTreeChildrenShowUpCondition.untilChildrenShowUp;
+import static org.fest.swing.edt.GuiActionRunner.execute;
+
+import javax.swing.JTree;
+import javax.swing.tree.DefaultMutableTreeNode;
+import javax.swing.tree.DefaultTreeModel;
+import javax.swing.tree.TreePath;
+
+import org.fest.swing.annotation.RunsInEDT;
+import org.fest.swing.edt.GuiQuery;
+import org.fest.swing.edt.GuiTask;
+import org.fest.swing.test.core.SequentialEDTSafeTestCase;
+import org.fest.swing.timing.Pause;
+import org.junit.Test;
+
+/**
+ * Tests for {@link JTreeChildrenShowUpCondition#test()}.
+ *
+ * @author Alex Ruiz
+ */
+public class JTreeChildrenShowUpCondition_test_Test extends SequentialEDTSafeTestCase {
+  private JTree tree;
+  private DefaultMutableTreeNode branch;
+  private TreePath path;
+  private volatile long insertedAt;
+
+  @Override
+  protected void onSetUp() {
+    tree = execute(new GuiQuery<JTree>() {
+      @Override
+      protected JTree executeInEDT() {
+        return new JTree(newModel());
+      }
+    });
+    path = pathToBranch();
+  }
+
+  @Test
+  public void should_wake_up_right_after_children_are_inserted() {
+    // the safeguard re-evaluates the condition every 100 ms: waking up much sooner, several times in a row, can only be
+    // the result of the TreeModelListener
+    for (int i = 0; i < 3; i++) {
+      insertChildInBackground(250 + i * 35);
+      Pause.pause(untilChildrenShowUp(tree, path), 5000);
+      assertThat(NANOSECONDS.toMillis(nanoTime() - insertedAt)).isLessThan(30);
+      removeChildren();
+    }
+  }
+
+  @Test
+  public void should_listen_to_new_model_after_model_is_replaced() {
+    replaceModelInBackground(100);
+    insertChildInBackground(400);
+    Pause.pause(untilChildrenShowUp(tree, path), 5000);
+    assertThat(NANOSECONDS.toMillis(nanoTime() - insertedAt)).isLessThan(30);
+  }
+
+  @Test
+  public void should_stop_listening_to_model_when_done() {
+    int listenerCount = treeModelListenerCount();
+    insertChildInBackground(100);
+    Pause.pause(untilChildrenShowUp(tree, path), 5000);
+    assertThat(treeModelListenerCount()).isEqualTo(listenerCount);
+  }
+
+  private void insertChildInBackground(final long delay) {
+    new Thread() {
+      @Override
+      public void run() {
+        Pause.pause(delay);
+        execute(new GuiTask() {
+          @Override
+          protected void executeInEDT() {
+            insertedAt = nanoTime();
+            model().insertNodeInto(new DefaultMutableTreeNode("leaf"), branch, 0);
+          }
+        });
+      }
+    }.start();
+  }
+
+  private void replaceModelInBackground(final long delay) {
+    new Thread() {
+      @Override
+      public void run() {
+        Pause.pause(delay);
+        execute(new GuiTask() {
+          @Override
+          protected void executeInEDT() {
+            tree.setModel(newModel());
+          }
+        });
+      }
+    }.start();
+  }
+
+  @RunsInEDT
+  private void removeChildren() {
+    execute(new GuiTask() {
+      @Override
+      protected void executeInEDT() {
+        branch.removeAllChildren();
+        model().nodeStructureChanged(branch);
+      }
+    });
+  }
+
+  @RunsInEDT
+  private int treeModelListenerCount() {
+    return execute(new GuiQuery<Integer>() {
+      @Override
+      protected Integer executeInEDT() {
+        return model().getTreeModelListeners().length;
+      }
+    });
+  }
+
+  @RunsInEDT
+  private TreePath pathToBranch() {
+    return execute(new GuiQuery<TreePath>() {
+      @Override
+      protected TreePath executeInEDT() {
+        return new TreePath(branch.getPath());
+      }
+    });
+  }
+
+  private DefaultTreeModel model() {
+    return (DefaultTreeModel) tree.getModel();
+  }
+
+  // the new model uses the same nodes, so that the path to the branch stays the same
+  private DefaultTreeModel newModel() {
+    if (branch == null) {
+      branch = new DefaultMutableTreeNode("branch");
+    }
+    DefaultMutableTreeNode root = (DefaultMutableTreeNode) branch.getParent();
+    if (root == null) {
+      root = new DefaultMutableTreeNode("root");
+      root.add(branch);
+    }
+    return new DefaultTreeModel(root);
+  }
+}
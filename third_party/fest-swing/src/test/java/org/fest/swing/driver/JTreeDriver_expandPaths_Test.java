@@ -0,0 +1,97 @@
+/*
+ * Created on Oct 18, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.driver;
+
+import static org.fest.swing.edt.GuiActionRunner.execute;
+import static org.fest.swing.test.core.CommonAssertions.assertThatErrorCauseIsDisabledComponent;
+import static org.fest.swing.test.core.CommonAssertions.failWhenExpectingException;
+import static org.fest.swing.test.swing.TreeNodeFactory.node;
+import static org.fest.util.Arrays.array;
+
+import javax.swing.JTree;
+import javax.swing.event.TreeExpansionEvent;
+import javax.swing.event.TreeWillExpandListener;
+import javax.swing.tree.DefaultMutableTreeNode;
+import javax.swing.tree.DefaultTreeModel;
+
+import org.fest.swing.annotation.RunsInEDT;
+import org.fest.swing.edt.GuiTask;
+import org.fest.swing.exception.LocationUnavailableException;
+import org.junit.Test;
+
+/**
+ * Tests for {@link JTreeDriver#expandPaths(javax.swing.JTree, String[])}.
+ *
+ * @author Alex Ruiz
+ */
+public class JTreeDriver_expandPaths_Test extends JTreeDriver_toggleCell_TestCase {
+  @Test
+  public void should_expand_cells() {
+    showWindow();
+    requireRowCollapsed(1);
+    requireRowCollapsed(5);
+    driver.expandPaths(tree, array("root/branch5", "root/branch1"));
+    requireRowExpanded(1);
+    requireRowExpanded(7);
+  }
+
+  @Test
+  public void should_expand_cells_loaded_when_parent_is_expanded() {
+    loadChildrenOfBranch5WhenExpanded(tree);
+    showWindow();
+    driver.expandPaths(tree, array("root/branch5", "root/branch5/branch5.2"));
+    requireRowExpanded(5);
+    requireRowExpanded(7);
+  }
+
+  @Test(expected = LocationUnavailableException.class)
+  public void should_throw_error_if_any_path_does_not_exist() {
+    showWindow();
+    driver.expandPaths(tree, array("root/branch1", "somePath"));
+  }
+
+  @Test
+  public void should_throw_error_if_JTree_is_disabled() {
+    disableTree();
+    try {
+      driver.expandPaths(tree, array("root"));
+      failWhenExpectingException();
+    } catch (IllegalStateException e) {
+      assertThatErrorCauseIsDisabledComponent(e);
+    }
+  }
+
+  @RunsInEDT
+  private static void loadChildrenOfBranch5WhenExpanded(final JTree tree) {
+    execute(new GuiTask() {
+      @Override
+      protected void executeInEDT() {
+        tree.addTreeWillExpandListener(new TreeWillExpandListener() {
+          @Override
+          public void treeWillExpand(TreeExpansionEvent e) {
+            DefaultMutableTreeNode expanded = (DefaultMutableTreeNode) e.getPath().getLastPathComponent();
+            if ("branch5".equals(expanded.getUserObject()) && expanded.getChildCount() == 1) {
+              DefaultTreeModel model = (DefaultTreeModel) tree.getModel();
+              model.insertNodeInto(node("branch5.2", node("branch5.2.1")), expanded, 1);
+            }
+          }
+
+          @Override
+          public void treeWillCollapse(TreeExpansionEvent e) {}
+        });
+      }
+    });
+  }
+}
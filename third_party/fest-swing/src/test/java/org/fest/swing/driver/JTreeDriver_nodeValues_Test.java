@@ -0,0 +1,64 @@
+/*
+ * Created on Oct 18, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.driver;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.swing.edt.GuiActionRunner.execute;
+import static org.fest.util.Arrays.array;
+
+import javax.swing.tree.DefaultMutableTreeNode;
+import javax.swing.tree.DefaultTreeModel;
+
+import org.fest.swing.annotation.RunsInEDT;
+import org.fest.swing.edt.GuiTask;
+import org.fest.swing.exception.LocationUnavailableException;
+import org.junit.Test;
+
+/**
+ * Tests for {@link JTreeDriver#nodeValues(javax.swing.JTree, String[])}.
+ *
+ * @author Alex Ruiz
+ */
+public class JTreeDriver_nodeValues_Test extends JTreeDriver_TestCase {
+  @Test
+  public void should_return_text_of_nodes() {
+    String[] values = driver.nodeValues(tree, array("root/branch1/branch1.1", "root/branch5/branch5.1"));
+    assertThat(values).isEqualTo(array("branch1.1", "branch5.1"));
+  }
+
+  @Test
+  public void should_find_node_after_it_has_been_renamed() {
+    driver.nodeValues(tree, array("root/branch1"));
+    rename(firstChildInRoot(), "renamed");
+    assertThat(driver.nodeValues(tree, array("root/renamed/branch1.2"))).isEqualTo(array("branch1.2"));
+  }
+
+  @Test(expected = LocationUnavailableException.class)
+  public void should_throw_error_if_any_path_does_not_exist() {
+    driver.nodeValues(tree, array("root/branch1", "hello"));
+  }
+
+  @RunsInEDT
+  private void rename(final DefaultMutableTreeNode node, final String text) {
+    execute(new GuiTask() {
+      @Override
+      protected void executeInEDT() {
+        node.setUserObject(text);
+        ((DefaultTreeModel) tree.getModel()).nodeChanged(node);
+      }
+    });
+    robot.waitForIdle();
+  }
+}
@@ -14,10 +14,20 @@
  */
 package org.fest.swing.driver;
 
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.swing.edt.GuiActionRunner.execute;
 import static org.fest.swing.test.core.CommonAssertions.assertThatErrorCauseIsDisabledComponent;
 import static org.fest.swing.test.core.CommonAssertions.assertThatErrorCauseIsNotShowingComponent;
 import static org.fest.swing.test.core.CommonAssertions.failWhenExpectingException;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.swing.JTree;
+import javax.swing.event.TreeSelectionEvent;
+import javax.swing.event.TreeSelectionListener;
+
+import org.fest.swing.annotation.RunsInEDT;
+import org.fest.swing.edt.GuiTask;
 import org.junit.Test;
 
 /**
@@ -36,6 +46,34 @@ public class JTreeDriver_selectPaths_Test extends JTreeDriver_selectCell_TestCas
     requireSelectedPaths(paths);
   }
 
+  @Test
+  public void should_select_cells_in_a_single_selection_change() {
+    clearTreeSelection();
+    showWindow();
+    updateTreeWithDefaultSelectionModel();
+    AtomicInteger selectionChanges = new AtomicInteger();
+    countSelectionChanges(tree, selectionChanges);
+    String[] paths = { "root/branch1/branch1.1", "root/branch1/branch1.2", "root/branch2" };
+    driver.selectPaths(tree, paths);
+    requireSelectedPaths(paths);
+    assertThat(selectionChanges.get()).isEqualTo(1);
+  }
+
+  @RunsInEDT
+  private static void countSelectionChanges(final JTree tree, final AtomicInteger selectionChanges) {
+    execute(new GuiTask() {
+      @Override
+      protected void executeInEDT() {
+        tree.addTreeSelectionListener(new TreeSelectionListener() {
+          @Override
+          public void valueChanged(TreeSelectionEvent e) {
+            selectionChanges.incrementAndGet();
+          }
+        });
+      }
+    });
+  }
+
   @Test
   public void should_throw_error_if_JTree_is_disabled() {
     disableTree();
@@ -0,0 +1,150 @@
+/*
+ * Created on Oct 18, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.driver;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.swing.driver.JTreePathIndex.createIndex;
+import static org.fest.swing.edt.GuiActionRunner.execute;
+import static org.fest.swing.test.swing.TreeNodeFactory.node;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.swing.JTree;
+import javax.swing.tree.DefaultMutableTreeNode;
+import javax.swing.tree.DefaultTreeModel;
+
+import org.fest.swing.annotation.RunsInEDT;
+import org.fest.swing.cell.JTreeCellReader;
+import org.fest.swing.edt.GuiQuery;
+import org.fest.swing.edt.GuiTask;
+import org.fest.swing.test.core.EDTSafeTestCase;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link JTreePathIndex#childrenWithText(JTree, Object, String)}.
+ * 
+ * @author Alex Ruiz
+ */
+public class JTreePathIndex_childrenWithText_Test extends EDTSafeTestCase {
+  private DefaultMutableTreeNode root;
+  private DefaultMutableTreeNode branch1;
+  private DefaultMutableTreeNode branch2;
+  private DefaultTreeModel model;
+  private JTree tree;
+  private CountingCellReader cellReader;
+  private JTreePathIndex index;
+
+  @Before
+  public void setUp() {
+    branch1 = node("branch1", node("branch1.1"), node("branch1.2"));
+    branch2 = node("branch2");
+    root = node("root", branch1, branch2);
+    model = new DefaultTreeModel(root);
+    cellReader = new CountingCellReader();
+    tree = execute(new GuiQuery<JTree>() {
+      @Override
+      protected JTree executeInEDT() {
+        return new JTree(model);
+      }
+    });
+    index = execute(new GuiQuery<JTreePathIndex>() {
+      @Override
+      protected JTreePathIndex executeInEDT() {
+        return createIndex(tree, cellReader);
+      }
+    });
+  }
+
+  @Test
+  public void should_read_children_of_node_only_once() {
+    assertThat(childrenWithText(root, "branch1")).containsOnly(branch1);
+    int readCount = cellReader.readCount();
+    assertThat(childrenWithText(root, "branch2")).containsOnly(branch2);
+    // only the found child is read again, to verify it
+    assertThat(cellReader.readCount() - readCount).isEqualTo(1);
+  }
+
+  @Test
+  public void should_discard_index_when_node_is_removed() {
+    assertThat(childrenWithText(branch1, "branch1.2")).hasSize(1);
+    assertThat(childrenWithText(root, "branch2")).containsOnly(branch2);
+    execute(new GuiTask() {
+      @Override
+      protected void executeInEDT() {
+        model.removeNodeFromParent((DefaultMutableTreeNode) branch1.getChildAt(1));
+      }
+    });
+    assertThat(childrenWithText(branch1, "branch1.2")).isEmpty();
+    int readCount = cellReader.readCount();
+    assertThat(childrenWithText(root, "branch2")).containsOnly(branch2);
+    // the children of all nodes are read again
+    assertThat(cellReader.readCount() - readCount).isEqualTo(3);
+  }
+
+  @Test
+  public void should_discard_index_when_structure_changes() {
+    assertThat(childrenWithText(root, "branch2")).containsOnly(branch2);
+    execute(new GuiTask() {
+      @Override
+      protected void executeInEDT() {
+        branch2.setUserObject("branch3");
+        model.nodeStructureChanged(root);
+      }
+    });
+    assertThat(childrenWithText(root, "branch2")).isEmpty();
+    assertThat(childrenWithText(root, "branch3")).containsOnly(branch2);
+  }
+
+  @Test
+  public void should_read_children_again_if_child_count_changed_without_notification() {
+    assertThat(childrenWithText(root, "branch1")).containsOnly(branch1);
+    final DefaultMutableTreeNode anotherBranch1 = node("branch1");
+    execute(new GuiTask() {
+      @Override
+      protected void executeInEDT() {
+        root.add(anotherBranch1);
+      }
+    });
+    assertThat(childrenWithText(root, "branch1")).containsOnly(branch1, anotherBranch1);
+  }
+
+  @RunsInEDT
+  private @Nonnull List<Object> childrenWithText(final @Nonnull Object parent, final @Nonnull String text) {
+    return execute(new GuiQuery<List<Object>>() {
+      @Override
+      protected List<Object> executeInEDT() {
+        return index.childrenWithText(tree, parent, text);
+      }
+    });
+  }
+
+  private static class CountingCellReader implements JTreeCellReader {
+    private final AtomicInteger readCount = new AtomicInteger();
+
+    @Override
+    public @Nullable String valueAt(@Nonnull JTree tree, @Nullable Object modelValue) {
+      readCount.incrementAndGet();
+      return ((DefaultMutableTreeNode) modelValue).getUserObject().toString();
+    }
+
+    int readCount() {
+      return readCount.get();
+    }
+  }
+}
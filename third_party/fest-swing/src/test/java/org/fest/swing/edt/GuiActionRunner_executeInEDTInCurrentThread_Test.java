@@ -0,0 +1,67 @@
+/*
+ * Created on Oct 18, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.edt;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link GuiActionRunner#executeInEDTInCurrentThread(boolean)}.
+ *
+ * @author Alex Ruiz
+ */
+public class GuiActionRunner_executeInEDTInCurrentThread_Test {
+  private boolean executeInEDT;
+
+  @Before
+  public void setUp() {
+    executeInEDT = GuiActionRunner.executeInEDT();
+    GuiActionRunner.executeInEDT(true);
+  }
+
+  @After
+  public void tearDown() {
+    GuiActionRunner.clearExecuteInEDTInCurrentThread();
+    GuiActionRunner.executeInEDT(executeInEDT);
+  }
+
+  @Test
+  public void should_override_global_value_in_current_thread_only() throws InterruptedException {
+    GuiActionRunner.executeInEDTInCurrentThread(false);
+    assertThat(GuiActionRunner.executeInEDT()).isFalse();
+    final AtomicBoolean executeInEDTInOtherThread = new AtomicBoolean();
+    Thread otherThread = new Thread() {
+      @Override
+      public void run() {
+        executeInEDTInOtherThread.set(GuiActionRunner.executeInEDT());
+      }
+    };
+    otherThread.start();
+    otherThread.join();
+    assertThat(executeInEDTInOtherThread.get()).isTrue();
+  }
+
+  @Test
+  public void should_use_global_value_after_clearing_value_in_current_thread() {
+    GuiActionRunner.executeInEDTInCurrentThread(false);
+    GuiActionRunner.clearExecuteInEDTInCurrentThread();
+    assertThat(GuiActionRunner.executeInEDT()).isTrue();
+  }
+}
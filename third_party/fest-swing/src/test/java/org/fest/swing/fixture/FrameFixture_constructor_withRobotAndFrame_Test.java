@@ -0,0 +1,55 @@
+/*
+ * Created on Oct 18, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.fixture;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.swing.core.BasicRobot.robotWithIsolatedAwtHierarchy;
+import static org.fest.swing.test.builder.JFrames.frame;
+
+import java.awt.Frame;
+
+import org.fest.swing.core.Robot;
+import org.fest.swing.hierarchy.ScopedHierarchy;
+import org.fest.swing.test.core.EDTSafeTestCase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link FrameFixture#FrameFixture(Robot, Frame)}.
+ *
+ * @author Alex Ruiz
+ */
+public class FrameFixture_constructor_withRobotAndFrame_Test extends EDTSafeTestCase {
+  private Robot robot;
+
+  @Before
+  public void setUp() {
+    robot = robotWithIsolatedAwtHierarchy();
+  }
+
+  @After
+  public void tearDown() {
+    robot.cleanUp();
+  }
+
+  @Test
+  public void should_add_Frame_to_hierarchy_of_isolated_Robot() {
+    Frame target = frame().createNew();
+    FrameFixture fixture = new FrameFixture(robot, target);
+    assertThat(fixture.target()).isSameAs(target);
+    assertThat(((ScopedHierarchy) robot.hierarchy()).windows()).containsOnly(target);
+  }
+}
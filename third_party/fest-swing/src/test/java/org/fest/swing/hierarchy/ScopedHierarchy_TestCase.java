@@ -0,0 +1,63 @@
+/*
+ * Created on Oct 18, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.hierarchy;
+
+import static org.fest.swing.edt.GuiActionRunner.execute;
+import static org.fest.swing.test.swing.TestDialog.createNewDialog;
+import static org.fest.swing.test.swing.TestWindow.createNewWindow;
+
+import java.awt.Component;
+
+import org.fest.swing.annotation.RunsInEDT;
+import org.fest.swing.edt.GuiQuery;
+import org.fest.swing.test.core.SequentialEDTSafeTestCase;
+import org.fest.swing.test.swing.TestDialog;
+import org.fest.swing.test.swing.TestWindow;
+
+/**
+ * Base test case for {@link ScopedHierarchy}.
+ *
+ * @author Alex Ruiz
+ */
+public abstract class ScopedHierarchy_TestCase extends SequentialEDTSafeTestCase {
+  TestWindow window;
+  TestDialog dialog;
+  TestWindow otherWindow;
+  ScopedHierarchy hierarchy;
+
+  @Override
+  protected final void onSetUp() {
+    window = createNewWindow(getClass());
+    dialog = createNewDialog(window);
+    otherWindow = createNewWindow(getClass());
+    hierarchy = new ScopedHierarchy();
+  }
+
+  @Override
+  protected final void onTearDown() {
+    window.destroy();
+    otherWindow.destroy();
+  }
+
+  @RunsInEDT
+  static boolean contains(final ScopedHierarchy hierarchy, final Component c) {
+    return execute(new GuiQuery<Boolean>() {
+      @Override
+      protected Boolean executeInEDT() {
+        return hierarchy.contains(c);
+      }
+    });
+  }
+}
@@ -0,0 +1,49 @@
+/*
+ * Created on Oct 18, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.hierarchy;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link ScopedHierarchy#contains(java.awt.Component)}.
+ *
+ * @author Alex Ruiz
+ */
+public class ScopedHierarchy_contains_Test extends ScopedHierarchy_TestCase {
+  @Test
+  public void should_not_contain_Windows_that_have_not_been_added() {
+    assertThat(contains(hierarchy, window)).isFalse();
+    assertThat(contains(hierarchy, otherWindow)).isFalse();
+  }
+
+  @Test
+  public void should_contain_added_Windows_and_the_Windows_they_own() {
+    hierarchy.add(window);
+    assertThat(contains(hierarchy, window)).isTrue();
+    assertThat(contains(hierarchy, dialog)).isTrue();
+    assertThat(contains(hierarchy, otherWindow)).isFalse();
+  }
+
+  @Test
+  public void should_not_share_Windows_with_other_hierarchies() {
+    ScopedHierarchy other = new ScopedHierarchy();
+    hierarchy.add(window);
+    other.add(otherWindow);
+    assertThat(contains(other, window)).isFalse();
+    assertThat(contains(hierarchy, otherWindow)).isFalse();
+  }
+}
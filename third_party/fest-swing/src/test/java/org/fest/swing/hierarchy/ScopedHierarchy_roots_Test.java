@@ -0,0 +1,72 @@
+/*
+ * Created on Oct 18, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.hierarchy;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.swing.edt.GuiActionRunner.execute;
+
+import java.awt.Window;
+
+import org.fest.swing.annotation.RunsInEDT;
+import org.fest.swing.edt.GuiQuery;
+import org.fest.swing.edt.GuiTask;
+import org.junit.Test;
+
+/**
+ * Tests for {@link ScopedHierarchy#roots()} and {@link ScopedHierarchy#dispose(java.awt.Window)}.
+ *
+ * @author Alex Ruiz
+ */
+public class ScopedHierarchy_roots_Test extends ScopedHierarchy_TestCase {
+  @Test
+  public void should_only_contain_added_Windows() {
+    hierarchy.add(window);
+    assertThat(hierarchy.roots()).containsOnly(window);
+  }
+
+  @Test
+  public void should_remove_disposed_Window() {
+    hierarchy.add(window);
+    execute(new GuiTask() {
+      @Override
+      protected void executeInEDT() {
+        hierarchy.dispose(window);
+      }
+    });
+    assertThat(hierarchy.roots()).isEmpty();
+  }
+
+  @Test
+  public void should_not_dispose_Window_that_has_not_been_added() {
+    otherWindow.display();
+    execute(new GuiTask() {
+      @Override
+      protected void executeInEDT() {
+        hierarchy.dispose(otherWindow);
+      }
+    });
+    assertThat(isDisplayable(otherWindow)).isTrue();
+  }
+
+  @RunsInEDT
+  private static boolean isDisplayable(final Window w) {
+    return execute(new GuiQuery<Boolean>() {
+      @Override
+      protected Boolean executeInEDT() {
+        return w.isDisplayable();
+      }
+    });
+  }
+}
@@ -0,0 +1,102 @@
+/*
+ * Created on Oct 18, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.image;
+
+import static java.awt.image.BufferedImage.TYPE_INT_RGB;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.swing.image.RandomFileNameCreator.randomFileName;
+import static org.fest.util.Files.temporaryFolderPath;
+import static org.fest.util.Strings.concat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link BackgroundImageFileWriter#writeAsPng(BufferedImage, String)}.
+ *
+ * @author Alex Ruiz
+ */
+public class BackgroundImageFileWriter_writeAsPng_Test {
+  private ImageFileWriter writer;
+  private BackgroundImageFileWriter backgroundWriter;
+  private String imagePath1;
+  private String imagePath2;
+
+  @Before
+  public void setUp() {
+    writer = spy(new ImageFileWriter());
+    backgroundWriter = new BackgroundImageFileWriter(writer, 2);
+    imagePath1 = concat(temporaryFolderPath(), randomFileName());
+    imagePath2 = concat(temporaryFolderPath(), randomFileName());
+  }
+
+  @After
+  public void tearDown() {
+    backgroundWriter.shutdown(1, SECONDS);
+    delete(imagePath1);
+    delete(imagePath2);
+  }
+
+  private static void delete(String path) {
+    File file = new File(path);
+    if (file.isFile()) {
+      file.delete();
+    }
+  }
+
+  @Test
+  public void should_write_image_in_background() throws Exception {
+    assertThat(backgroundWriter.writeAsPng(imageOfColor(0xFF0000), imagePath1).get()).isTrue();
+    assertThat(new File(imagePath1).isFile()).isTrue();
+  }
+
+  @Test
+  public void should_copy_previous_file_instead_of_encoding_identical_image() throws Exception {
+    backgroundWriter.writeAsPng(imageOfColor(0x00FF00), imagePath1);
+    backgroundWriter.writeAsPng(imageOfColor(0x00FF00), imagePath2);
+    backgroundWriter.flush();
+    assertThat(new File(imagePath2).isFile()).isTrue();
+    verify(writer, times(1)).writeAsPng(any(BufferedImage.class), anyString());
+  }
+
+  @Test
+  public void should_encode_image_different_from_previous_one() throws IOException, InterruptedException {
+    backgroundWriter.writeAsPng(imageOfColor(0x0000FF), imagePath1);
+    backgroundWriter.writeAsPng(imageOfColor(0xFFFFFF), imagePath2);
+    backgroundWriter.flush();
+    verify(writer, times(2)).writeAsPng(any(BufferedImage.class), anyString());
+  }
+
+  private static BufferedImage imageOfColor(int rgb) {
+    BufferedImage image = new BufferedImage(10, 10, TYPE_INT_RGB);
+    for (int x = 0; x < 10; x++) {
+      for (int y = 0; y < 10; y++) {
+        image.setRGB(x, y, rgb);
+      }
+    }
+    return image;
+  }
+}
@@ -0,0 +1,64 @@
+/*
+ * Created on Oct 18, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.metrics;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.swing.metrics.Operation.EDT_ROUND_TRIP;
+import static org.fest.swing.metrics.Operation.IDLE_WAIT;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link HistogramMetricsRecorder#summaryAndReset()}.
+ * 
+ * @author Alex Ruiz
+ */
+public class HistogramMetricsRecorder_summaryAndReset_Test {
+  private HistogramMetricsRecorder recorder;
+
+  @Before
+  public void setUp() {
+    recorder = new HistogramMetricsRecorder();
+  }
+
+  @Test
+  public void should_return_count_time_and_histogram_of_each_operation() {
+    recorder.record(IDLE_WAIT, 3000000);
+    recorder.record(IDLE_WAIT, 5000000);
+    recorder.record(EDT_ROUND_TRIP, 500);
+    MetricsSummary summary = recorder.summaryAndReset();
+    OperationMetrics idleWait = summary.metricsOf(IDLE_WAIT);
+    assertThat(idleWait.count()).isEqualTo(2);
+    assertThat(idleWait.totalTimeInMillis()).isEqualTo(8);
+    assertThat(idleWait.maxTimeInMillis()).isEqualTo(5);
+    assertThat(idleWait.percentileInMicros(50)).isEqualTo(4096);
+    assertThat(idleWait.percentileInMicros(100)).isEqualTo(8192);
+    OperationMetrics edtRoundTrip = summary.metricsOf(EDT_ROUND_TRIP);
+    assertThat(edtRoundTrip.count()).isEqualTo(1);
+    assertThat(edtRoundTrip.histogram()[0]).isEqualTo(1);
+    assertThat(summary.isEmpty()).isFalse();
+  }
+
+  @Test
+  public void should_discard_statistics() {
+    recorder.record(IDLE_WAIT, 3000000);
+    recorder.summaryAndReset();
+    MetricsSummary summary = recorder.summary();
+    assertThat(summary.isEmpty()).isTrue();
+    assertThat(summary.metricsOf(IDLE_WAIT).count()).isEqualTo(0);
+    assertThat(summary.toString()).isEmpty();
+  }
+}
@@ -0,0 +1,53 @@
+/*
+ * Created on Oct 18, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.metrics;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.swing.metrics.Operation.PAUSE;
+import static org.fest.swing.timing.Pause.pause;
+
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Tests for {@link Metrics#stopTiming(Operation, long)}.
+ * 
+ * @author Alex Ruiz
+ */
+public class Metrics_stopTiming_Test {
+  @After
+  public void tearDown() {
+    Metrics.uninstall();
+  }
+
+  @Test
+  public void should_record_operation_if_recorder_is_installed() {
+    HistogramMetricsRecorder recorder = new HistogramMetricsRecorder();
+    Metrics.install(recorder);
+    pause(20);
+    OperationMetrics metrics = recorder.summary().metricsOf(PAUSE);
+    assertThat(metrics.count()).isEqualTo(1);
+    assertThat(metrics.totalTimeInMillis()).isGreaterThanOrEqualTo(19);
+  }
+
+  @Test
+  public void should_not_record_operation_started_before_recorder_is_installed() {
+    long start = Metrics.startTiming();
+    HistogramMetricsRecorder recorder = new HistogramMetricsRecorder();
+    Metrics.install(recorder);
+    Metrics.stopTiming(PAUSE, start);
+    assertThat(recorder.summary().isEmpty()).isTrue();
+  }
+}
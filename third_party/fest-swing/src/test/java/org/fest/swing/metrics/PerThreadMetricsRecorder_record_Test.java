@@ -0,0 +1,92 @@
+/*
+ * Created on Oct 18, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.metrics;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.swing.metrics.Operation.CELL_RENDERING;
+import static org.fest.swing.metrics.Operation.IDLE_WAIT;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link PerThreadMetricsRecorder#record(Operation, long)}.
+ * 
+ * @author Alex Ruiz
+ */
+public class PerThreadMetricsRecorder_record_Test {
+  private PerThreadMetricsRecorder recorder;
+
+  @Before
+  public void setUp() {
+    recorder = new PerThreadMetricsRecorder();
+  }
+
+  @Test
+  public void should_keep_statistics_of_each_recording_thread_apart() throws InterruptedException {
+    recorder.startRecording();
+    recorder.record(IDLE_WAIT, 1000);
+    RecordingThread other = new RecordingThread();
+    other.start();
+    other.join();
+    assertThat(other.summary.metricsOf(IDLE_WAIT).count()).isEqualTo(2);
+    assertThat(recorder.stopRecording().metricsOf(IDLE_WAIT).count()).isEqualTo(1);
+  }
+
+  @Test
+  public void should_attribute_operations_of_other_threads_to_only_recording_thread() throws InterruptedException {
+    recorder.startRecording();
+    recordInOtherThread();
+    assertThat(recorder.stopRecording().metricsOf(CELL_RENDERING).count()).isEqualTo(1);
+  }
+
+  @Test
+  public void should_discard_operations_of_other_threads_if_no_thread_is_recording() throws InterruptedException {
+    recordInOtherThread();
+    recorder.startRecording();
+    assertThat(recorder.stopRecording().isEmpty()).isTrue();
+  }
+
+  @Test
+  public void should_discard_statistics_collected_before_recording_starts() {
+    recorder.startRecording();
+    recorder.record(IDLE_WAIT, 1000);
+    recorder.startRecording();
+    assertThat(recorder.stopRecording().isEmpty()).isTrue();
+  }
+
+  private void recordInOtherThread() throws InterruptedException {
+    Thread thread = new Thread() {
+      @Override
+      public void run() {
+        recorder.record(CELL_RENDERING, 1000);
+      }
+    };
+    thread.start();
+    thread.join();
+  }
+
+  private class RecordingThread extends Thread {
+    MetricsSummary summary;
+
+    @Override
+    public void run() {
+      recorder.startRecording();
+      recorder.record(IDLE_WAIT, 1000);
+      recorder.record(IDLE_WAIT, 2000);
+      summary = recorder.stopRecording();
+    }
+  }
+}
@@ -0,0 +1,76 @@
+/*
+ * Created on Oct 18, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.monitor;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.swing.edt.GuiActionRunner.execute;
+import static org.fest.util.Maps.newHashMap;
+import static org.mockito.Mockito.when;
+
+import java.awt.Component;
+import java.awt.EventQueue;
+import java.awt.Window;
+import java.util.Collection;
+import java.util.Map;
+
+import org.fest.swing.annotation.RunsInEDT;
+import org.fest.swing.edt.GuiQuery;
+import org.fest.swing.lock.ScreenLock;
+import org.junit.Test;
+
+/**
+ * Tests for {@link Context#liveEventQueues()}.
+ * 
+ * @author Alex Ruiz
+ */
+public class Context_liveEventQueues_Test extends Context_TestCase {
+  @Test
+  public void should_return_EventQueues_of_displayable_Windows() {
+    ScreenLock.instance().acquire(this);
+    try {
+      window.display();
+      mapWindowToEventQueue();
+      Collection<EventQueue> liveEventQueues = liveEventQueues();
+      assertThat(liveEventQueues).containsOnly(eventQueue);
+    } finally {
+      ScreenLock.instance().release(this);
+    }
+  }
+
+  @Test
+  public void should_skip_EventQueues_of_Windows_that_are_not_displayable() {
+    mapWindowToEventQueue();
+    Collection<EventQueue> liveEventQueues = liveEventQueues();
+    assertThat(liveEventQueues).isEmpty();
+  }
+
+  @RunsInEDT
+  private Collection<EventQueue> liveEventQueues() {
+    return execute(new GuiQuery<Collection<EventQueue>>() {
+      @Override
+      protected Collection<EventQueue> executeInEDT() {
+        return context.liveEventQueues();
+      }
+    });
+  }
+
+  private void mapWindowToEventQueue() {
+    Map<Window, EventQueue> queuesByWindow = newHashMap();
+    queuesByWindow.put(window, eventQueue);
+    when(windowEventQueueMapping.queuesByWindow()).thenReturn(queuesByWindow);
+    Map<Component, EventQueue> queuesByComponent = newHashMap();
+    when(eventQueueMapping.queuesByComponent()).thenReturn(queuesByComponent);
+  }
+}
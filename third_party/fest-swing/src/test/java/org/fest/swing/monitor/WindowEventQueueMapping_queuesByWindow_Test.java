@@ -0,0 +1,45 @@
+/*
+ * Created on Oct 18, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.monitor;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.swing.test.awt.Toolkits.newToolkitStub;
+
+import java.awt.EventQueue;
+import java.awt.Window;
+import java.util.Map;
+
+import org.fest.swing.test.awt.ToolkitStub;
+import org.junit.Test;
+
+/**
+ * Tests for {@link WindowEventQueueMapping#queuesByWindow()}.
+ * 
+ * @author Alex Ruiz
+ */
+public class WindowEventQueueMapping_queuesByWindow_Test extends WindowEventQueueMapping_withWindow_TestCase {
+  @Test
+  public void should_return_EventQueue_of_each_Window() {
+    EventQueue anotherEventQueue = new EventQueue();
+    ToolkitStub anotherToolkit = newToolkitStub(anotherEventQueue);
+    MyWindow anotherWindow = MyWindow.createNew(anotherToolkit, getClass());
+    mapping.addQueueFor(window);
+    mapping.addQueueFor(anotherWindow);
+    Map<Window, EventQueue> queuesByWindow = mapping.queuesByWindow();
+    assertThat(queuesByWindow).hasSize(2);
+    assertThat(queuesByWindow.get(window)).isSameAs(eventQueue);
+    assertThat(queuesByWindow.get(anotherWindow)).isSameAs(anotherEventQueue);
+  }
+}
@@ -66,6 +66,10 @@ public class KeyRecorder extends KeyAdapter {
     keysReleased.add(new KeyEventRecord(e));
   }
 
+  public List<Integer> pressedKeyCodes() {
+    return keyCodesFrom(keysPressed);
+  }
+
   public boolean noKeysReleased() {
     return keyCodesFrom(keysReleased).isEmpty();
   }
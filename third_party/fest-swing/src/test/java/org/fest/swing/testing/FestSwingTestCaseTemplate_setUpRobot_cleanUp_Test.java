@@ -18,7 +18,9 @@ import static org.fest.assertions.Assertions.assertThat;
 
 import org.fest.swing.core.BasicRobot;
 import org.fest.swing.core.Robot;
+import org.fest.swing.edt.GuiActionRunner;
 import org.fest.swing.hierarchy.ExistingHierarchy;
+import org.fest.swing.hierarchy.ScopedHierarchy;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -46,5 +48,27 @@ public class FestSwingTestCaseTemplate_setUpRobot_cleanUp_Test {
     assertThat(robot.isActive()).isFalse();
   }
 
+  @Test
+  public void should_create_isolated_Robot_and_execute_GUI_actions_in_EDT_until_cleanUp() {
+    TestCase isolatedTestCase = new IsolatedTestCase();
+    GuiActionRunner.executeInEDT(false);
+    try {
+      isolatedTestCase.setUpRobot();
+      assertThat(isolatedTestCase.robot().hierarchy()).isInstanceOf(ScopedHierarchy.class);
+      assertThat(GuiActionRunner.executeInEDT()).isTrue();
+      isolatedTestCase.cleanUp();
+      assertThat(GuiActionRunner.executeInEDT()).isFalse();
+    } finally {
+      GuiActionRunner.executeInEDT(true);
+    }
+  }
+
   private static class TestCase extends FestSwingTestCaseTemplate {}
+
+  private static class IsolatedTestCase extends TestCase {
+    @Override
+    protected boolean runsInIsolation() {
+      return true;
+    }
+  }
 }
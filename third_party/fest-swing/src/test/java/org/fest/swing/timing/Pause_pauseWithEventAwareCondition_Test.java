@@ -0,0 +1,122 @@
+/*
+ * Created on Oct 18, 2026
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ * 
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.timing;
+
+import static java.lang.System.nanoTime;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.swing.test.core.CommonAssertions.failWhenExpectingException;
+
+import org.fest.swing.exception.WaitTimedOutError;
+import org.junit.Test;
+
+/**
+ * Tests for {@link Pause#pause(Condition, long)}, using conditions that notify their own changes.
+ * 
+ * @author Alex Ruiz
+ */
+public class Pause_pauseWithEventAwareCondition_Test {
+  @Test
+  public void should_wake_up_when_Condition_notifies_change() {
+    NotifyingCondition condition = new NotifyingCondition();
+    condition.satisfyInBackground(500);
+    Pause.pause(condition, 5000);
+    assertThat(condition.satisfied).isTrue();
+    assertThat(condition.waitStarted).isTrue();
+    assertThat(condition.isDone).isTrue();
+  }
+
+  // the safeguard re-evaluates event-aware conditions every 100 ms: waking up much sooner, several times in a row, can
+  // only be the result of the notification
+  @Test
+  public void should_wake_up_right_after_Condition_notifies_change() {
+    for (int i = 0; i < 3; i++) {
+      NotifyingCondition condition = new NotifyingCondition();
+      condition.satisfyInBackground(250 + i * 35);
+      Pause.pause(condition, 5000);
+      long latency = NANOSECONDS.toMillis(nanoTime() - condition.notifiedAt);
+      assertThat(latency).isLessThan(30);
+    }
+  }
+
+  @Test(expected = WaitTimedOutError.class)
+  public void should_timeout_if_Condition_is_never_satisfied() {
+    Pause.pause(new NotifyingCondition(), 500);
+  }
+
+  @Test
+  public void should_notify_Conditions_as_done_if_Condition_fails_to_start_waiting() {
+    NotifyingCondition started = new NotifyingCondition();
+    FailingToStartCondition failing = new FailingToStartCondition();
+    try {
+      Pause.pause(new Condition[] { started, failing }, 500);
+      failWhenExpectingException();
+    } catch (IllegalStateException e) {
+      assertThat(e.getMessage()).isEqualTo("Thrown on purpose");
+    }
+    assertThat(started.isDone).isTrue();
+    assertThat(failing.isDone).isTrue();
+  }
+
+  private static class FailingToStartCondition extends NotifyingCondition {
+    @Override
+    protected void startWaiting() {
+      throw new IllegalStateException("Thrown on purpose");
+    }
+  }
+
+  private static class NotifyingCondition extends Condition {
+    volatile boolean satisfied;
+    volatile boolean waitStarted;
+    volatile boolean isDone;
+    volatile long notifiedAt;
+
+    NotifyingCondition() {
+      super("Notifying condition");
+    }
+
+    void satisfyInBackground(final long delay) {
+      new Thread() {
+        @Override
+        public void run() {
+          Pause.pause(delay);
+          satisfied = true;
+          notifiedAt = nanoTime();
+          notifyChanged();
+        }
+      }.start();
+    }
+
+    @Override
+    public boolean test() {
+      return satisfied;
+    }
+
+    @Override
+    protected boolean isEventAware() {
+      return true;
+    }
+
+    @Override
+    protected void startWaiting() {
+      waitStarted = true;
+    }
+
+    @Override
+    protected void done() {
+      isDone = true;
+    }
+  }
+}